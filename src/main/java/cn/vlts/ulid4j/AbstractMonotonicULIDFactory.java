@@ -0,0 +1,196 @@
+package cn.vlts.ulid4j;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Base of monotonic ULID factories, every ULID or contiguous block of ULIDs is reserved against the
+ * last ULID with a single CAS. The subclasses customize the monotonic state by hooks:
+ * <ul>
+ * <li>{@link #nextULID(ULID, long)} computes the successor of the last ULID.</li>
+ * <li>{@link #fitBlock(ULID, long)} moves the first ULID of a block, so the block never carries into fixed bits.</li>
+ * <li>{@link #afterReserve(ULID)} runs after every successful CAS with the last reserved ULID.</li>
+ * <li>{@link #slot()}, {@link #lastULID(int)} and {@link #compareAndSetLastULID(int, ULID, ULID)} select where the
+ * last ULID is kept, by default in a single field.</li>
+ * </ul>
+ * @since 2026/10/17 10:40
+ */
+abstract class AbstractMonotonicULIDFactory extends DefaultULIDFactory {
+
+    private transient volatile ULID lastULID;
+
+    AbstractMonotonicULIDFactory(LongSupplier timestampSupplier,
+                                 IntFunction<byte[]> randomnessFunction) {
+        super(timestampSupplier, randomnessFunction);
+    }
+
+    AbstractMonotonicULIDFactory(LongSupplier timestampSupplier,
+                                 RandomnessSource randomnessSource,
+                                 ULIDFactoryMetrics metrics) {
+        super(timestampSupplier, randomnessSource, metrics);
+    }
+
+    @Override
+    public ULID ulid() {
+        return ulid(currentTimestamp());
+    }
+
+    @Override
+    public ULID ulid(long timestamp) {
+        int slot = slot();
+        ULID last;
+        ULID next;
+        int retries = -1;
+        do {
+            retries++;
+            last = lastULID(slot);
+            next = nextULID(last, timestamp);
+        } while (!compareAndSetLastULID(slot, last, next));
+        if (metrics != null) {
+            metrics.recordMonotonic(last.getTimestamp(), timestamp, next.getTimestamp(), 1L, retries);
+        }
+        afterReserve(next);
+        return next;
+    }
+
+    @Override
+    public List<ULID> ulids(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Invalid count of ULID");
+        }
+        if (n == 0) {
+            return Collections.emptyList();
+        }
+        return block(reserve(n), n);
+    }
+
+    @Override
+    public void fill(long[] msbs, long[] lsbs, int off, int n) {
+        Objects.checkFromIndexSize(off, n, msbs.length);
+        Objects.checkFromIndexSize(off, n, lsbs.length);
+        if (n > 0) {
+            fillBlock(reserve(n), msbs, lsbs, off, n);
+        }
+    }
+
+    @Override
+    public ULIDSpliterator spliterator(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Invalid count of ULID");
+        }
+        if (n == 0) {
+            return new ULIDSpliterator.BlockSpliterator(0L, 0L, 0L, 0L);
+        }
+        ULID first = reserve(n);
+        return new ULIDSpliterator.BlockSpliterator(first.getMostSignificantBits(), first.getLeastSignificantBits(), 0L, n);
+    }
+
+    /**
+     * Timestamp range spliterators create ULIDs of arbitrary milliseconds, which can not be reserved against the
+     * last ULID without moving it to the end of the range, so they are not supported.
+     */
+    @Override
+    public ULIDSpliterator spliterator(long fromTimestamp, long toTimestamp, int perMillisecond) {
+        throw new UnsupportedOperationException("spliterator over timestamp range");
+    }
+
+    /**
+     * Reserve a contiguous block of n ULIDs with a single CAS.
+     *
+     * @param n The count of ULIDs, must be positive
+     * @return The first ULID of the block
+     */
+    final ULID reserve(long n) {
+        long timestamp = currentTimestamp();
+        int slot = slot();
+        ULID last;
+        ULID first;
+        ULID end;
+        int retries = -1;
+        do {
+            retries++;
+            last = lastULID(slot);
+            first = fitBlock(nextULID(last, timestamp), n);
+        } while (!compareAndSetLastULID(slot, last, end = blockEnd(first, n)));
+        if (metrics != null) {
+            metrics.recordMonotonic(last.getTimestamp(), timestamp, end.getTimestamp(), n, retries);
+        }
+        afterReserve(end);
+        return first;
+    }
+
+    /**
+     * Read the timestamp from the clock. With metrics the latest recorded timestamp is got before the clock is read,
+     * so only real clock regressions are recorded.
+     */
+    final long currentTimestamp() {
+        ULIDFactoryMetrics m = metrics;
+        if (m == null) {
+            return timestampSupplier.getAsLong();
+        }
+        long latest = m.latestTimestamp();
+        long timestamp = timestampSupplier.getAsLong();
+        m.recordTimestamp(latest, timestamp);
+        return timestamp;
+    }
+
+    /**
+     * Move the first ULID of a block of n ULIDs forward if the block would carry into fixed bits, by default the
+     * block is kept as is.
+     *
+     * @param first The successor of the last ULID
+     * @param n     The count of ULIDs in the block, must be positive
+     * @return The first ULID of the block
+     */
+    ULID fitBlock(ULID first, long n) {
+        return first;
+    }
+
+    /**
+     * Called after every successful CAS before the ULIDs are handed out, by default nothing is done.
+     *
+     * @param last The last reserved ULID
+     */
+    void afterReserve(ULID last) {
+    }
+
+    /**
+     * Get the slot of the last ULID for the current thread, it is passed back to {@link #lastULID(int)} and
+     * {@link #compareAndSetLastULID(int, ULID, ULID)}. By default there is a single slot.
+     */
+    int slot() {
+        return 0;
+    }
+
+    ULID lastULID(int slot) {
+        return lastULID;
+    }
+
+    boolean compareAndSetLastULID(int slot, ULID expected, ULID next) {
+        return UPDATER.compareAndSet(this, expected, next);
+    }
+
+    /**
+     * Set the initial last ULID, subclasses call it at the end of their constructors, since
+     * {@link #randomULID(long)} may depend on their fields.
+     */
+    final void initLastULID(ULID initial) {
+        UPDATER.set(this, initial);
+    }
+
+    private static final AtomicReferenceFieldUpdater<AbstractMonotonicULIDFactory, ULID> UPDATER;
+
+    static {
+        try {
+            UPDATER = AtomicReferenceFieldUpdater.newUpdater(AbstractMonotonicULIDFactory.class, ULID.class, "lastULID");
+        } catch (Exception e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package cn.vlts.ulid4j;
+
+import java.util.Arrays;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Base of open-addressing hash tables keyed on ULID, the keys are stored inline as two primitive
+ * long arrays and probed linearly. The ULID whose both msb and lsb are 0 marks an empty slot, so it is stored in
+ * the extra slot at index capacity. Removal shifts the following keys back instead of leaving tombstones.
+ * @since 2026/10/16 14:20
+ */
+abstract class AbstractULIDHashTable {
+
+    /**
+     * Default expected size
+     */
+    static final int DEFAULT_EXPECTED_SIZE = 16;
+
+    /**
+     * Default load factor, trade memory for short probe sequences
+     */
+    static final float DEFAULT_LOAD_FACTOR = 0.5f;
+
+    /**
+     * The max capacity of table
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final float loadFactor;
+
+    long[] msbs;
+
+    long[] lsbs;
+
+    /**
+     * The capacity of table, always a power of two, excluding the extra slot of zero key
+     */
+    int capacity;
+
+    int mask;
+
+    int size;
+
+    boolean containsZeroKey;
+
+    private int maxFill;
+
+    AbstractULIDHashTable(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Invalid expected size: " + expectedSize);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Invalid load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        this.capacity = capacityFor(expectedSize, loadFactor);
+        this.mask = capacity - 1;
+        this.maxFill = maxFill(capacity, loadFactor);
+        this.msbs = new long[capacity + 1];
+        this.lsbs = new long[capacity + 1];
+    }
+
+    /**
+     * Mix the two halves of ULID with the finalizer of MurmurHash3, monotonic ULIDs differ only in their low bits
+     * and the finalizer spreads them over the whole table.
+     *
+     * @param msb The most significant 64 bits of ULID
+     * @param lsb The least significant 64 bits of ULID
+     * @return The mixed hash
+     */
+    static int mix(long msb, long lsb) {
+        long h = msb * 0x9e3779b97f4a7c15L + lsb;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    /**
+     * Find the slot of the key.
+     *
+     * @return The slot of the key if it is contained, otherwise (-(insertion slot) - 1)
+     */
+    final int find(long msb, long lsb) {
+        if ((msb | lsb) == 0L) {
+            return containsZeroKey ? capacity : -capacity - 1;
+        }
+        int pos = mix(msb, lsb) & mask;
+        long curMsb;
+        long curLsb;
+        while (((curMsb = msbs[pos]) | (curLsb = lsbs[pos])) != 0L) {
+            if (curMsb == msb && curLsb == lsb) {
+                return pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return -pos - 1;
+    }
+
+    /**
+     * Insert the key at the insertion slot returned by {@link #find(long, long)}, the value of the slot must be
+     * set by subclass before calling this method, since the table may be rehashed.
+     */
+    final void insertAt(int pos, long msb, long lsb) {
+        if (pos == capacity) {
+            containsZeroKey = true;
+        } else {
+            msbs[pos] = msb;
+            lsbs[pos] = lsb;
+        }
+        if (++size > maxFill) {
+            rehash(capacity << 1);
+        }
+    }
+
+    /**
+     * Remove the key at the slot, the following keys of the same cluster are shifted back.
+     */
+    final void removeAt(int pos) {
+        size--;
+        if (pos == capacity) {
+            containsZeroKey = false;
+            clearValue(pos);
+            return;
+        }
+        int last;
+        int slot;
+        for (; ; ) {
+            last = pos;
+            pos = (pos + 1) & mask;
+            long curMsb;
+            long curLsb;
+            for (; ; ) {
+                if (((curMsb = msbs[pos]) | (curLsb = lsbs[pos])) == 0L) {
+                    msbs[last] = 0L;
+                    lsbs[last] = 0L;
+                    clearValue(last);
+                    return;
+                }
+                slot = mix(curMsb, curLsb) & mask;
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            msbs[last] = curMsb;
+            lsbs[last] = curLsb;
+            moveValue(pos, last);
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        if (capacity >= MAX_CAPACITY) {
+            throw new IllegalStateException("Hash table is full");
+        }
+        long[] oldMsbs = msbs;
+        long[] oldLsbs = lsbs;
+        int oldCapacity = capacity;
+        int newMask = newCapacity - 1;
+        long[] newMsbs = new long[newCapacity + 1];
+        long[] newLsbs = new long[newCapacity + 1];
+        beginRehash(newCapacity + 1);
+        for (int i = 0; i < oldCapacity; i++) {
+            long msb = oldMsbs[i];
+            long lsb = oldLsbs[i];
+            if ((msb | lsb) != 0L) {
+                int pos = mix(msb, lsb) & newMask;
+                while ((newMsbs[pos] | newLsbs[pos]) != 0L) {
+                    pos = (pos + 1) & newMask;
+                }
+                newMsbs[pos] = msb;
+                newLsbs[pos] = lsb;
+                rehashValue(i, pos);
+            }
+        }
+        rehashValue(oldCapacity, newCapacity);
+        endRehash();
+        this.msbs = newMsbs;
+        this.lsbs = newLsbs;
+        this.capacity = newCapacity;
+        this.mask = newMask;
+        this.maxFill = maxFill(newCapacity, loadFactor);
+    }
+
+    /**
+     * Traverse the slots of contained keys.
+     */
+    final int nextSlot(int from) {
+        for (int i = from; i < capacity; i++) {
+            if ((msbs[i] | lsbs[i]) != 0L) {
+                return i;
+            }
+        }
+        return from <= capacity && containsZeroKey ? capacity : -1;
+    }
+
+    public final int size() {
+        return size;
+    }
+
+    public final boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all keys, the capacity is retained.
+     */
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(msbs, 0L);
+            Arrays.fill(lsbs, 0L);
+            containsZeroKey = false;
+            size = 0;
+        }
+    }
+
+    /**
+     * Move the value from a slot to another slot when the keys are shifted back.
+     */
+    void moveValue(int from, int to) {
+    }
+
+    /**
+     * Clear the value of the slot to release the reference.
+     */
+    void clearValue(int pos) {
+    }
+
+    /**
+     * Keep the current values and allocate the values with new length.
+     */
+    void beginRehash(int length) {
+    }
+
+    /**
+     * Move the value from the slot of old values to the slot of new values.
+     */
+    void rehashValue(int from, int to) {
+    }
+
+    /**
+     * Release the old values.
+     */
+    void endRehash() {
+    }
+
+    private static int capacityFor(int expectedSize, float loadFactor) {
+        long required = Math.max(2L, (long) Math.ceil(expectedSize / loadFactor));
+        if (required > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Too large expected size: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) required - 1) << 1;
+    }
+
+    private static int maxFill(int capacity, float loadFactor) {
+        return Math.min((int) Math.ceil(capacity * loadFactor), capacity - 1);
+    }
+}
@@ -1,5 +1,8 @@
 package cn.vlts.ulid4j;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.IntFunction;
 import java.util.function.LongSupplier;
 
@@ -17,22 +20,186 @@ class DefaultULIDFactory implements ULIDFactory {
     protected final LongSupplier timestampSupplier;
 
     /**
-     * The randomness function, to provide randomness component of ULID.
+     * The randomness function, to provide randomness component of ULID. It is null if randomness source is used.
      */
     protected final IntFunction<byte[]> randomnessFunction;
 
+    /**
+     * The randomness source, to provide randomness component of ULID without allocation. It is null if
+     * randomness function is used.
+     */
+    protected final RandomnessSource randomnessSource;
+
+    /**
+     * The metrics, it is null if instrumentation is off, so the hot path pays only a predictable branch.
+     */
+    protected final ULIDFactoryMetrics metrics;
+
     DefaultULIDFactory(LongSupplier timestampSupplier, IntFunction<byte[]> randomnessFunction) {
         this.timestampSupplier = timestampSupplier;
         this.randomnessFunction = randomnessFunction;
+        this.randomnessSource = null;
+        this.metrics = null;
+    }
+
+    DefaultULIDFactory(LongSupplier timestampSupplier, RandomnessSource randomnessSource) {
+        this(timestampSupplier, randomnessSource, null);
+    }
+
+    DefaultULIDFactory(LongSupplier timestampSupplier, RandomnessSource randomnessSource,
+                       ULIDFactoryMetrics metrics) {
+        this.timestampSupplier = timestampSupplier;
+        this.randomnessFunction = null;
+        this.randomnessSource = randomnessSource;
+        this.metrics = metrics;
     }
 
     @Override
     public ULID ulid() {
-        return new ULID(timestampSupplier.getAsLong(), randomnessFunction.apply(ULID.RANDOMNESS_BYTE_LEN));
+        return ulid(timestampSupplier.getAsLong());
     }
 
     @Override
     public ULID ulid(long timestamp) {
+        if (metrics != null) {
+            metrics.recordRandom(1L);
+        }
+        return randomULID(timestamp);
+    }
+
+    @Override
+    public List<ULID> ulids(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Invalid count of ULID");
+        }
+        if (metrics != null) {
+            metrics.recordRandom(n);
+        }
+        long timestamp = timestampSupplier.getAsLong();
+        ULID[] ulids = new ULID[n];
+        for (int i = 0; i < n; i++) {
+            ulids[i] = randomULID(timestamp);
+        }
+        return Arrays.asList(ulids);
+    }
+
+    @Override
+    public void fill(long[] msbs, long[] lsbs, int off, int n) {
+        Objects.checkFromIndexSize(off, n, msbs.length);
+        Objects.checkFromIndexSize(off, n, lsbs.length);
+        if (n == 0) {
+            return;
+        }
+        if (metrics != null) {
+            metrics.recordRandom(n);
+        }
+        long timestamp = timestampSupplier.getAsLong();
+        RandomnessSource source = randomnessSource;
+        if (source != null) {
+            ULID.checkTimestamp(timestamp);
+            long timestampBits = timestamp << 16;
+            for (int i = off, end = off + n; i < end; i++) {
+                msbs[i] = timestampBits | (source.nextShort() & 0xffffL);
+                lsbs[i] = source.nextLong();
+            }
+        } else {
+            for (int i = off, end = off + n; i < end; i++) {
+                ULID ulid = randomULID(timestamp);
+                msbs[i] = ulid.getMostSignificantBits();
+                lsbs[i] = ulid.getLeastSignificantBits();
+            }
+        }
+    }
+
+    @Override
+    public ULIDSpliterator spliterator(long fromTimestamp, long toTimestamp, int perMillisecond) {
+        ULID.checkTimestamp(fromTimestamp);
+        if (toTimestamp < fromTimestamp || toTimestamp > ULID.MAX_TIMESTAMP + 1) {
+            throw new IllegalArgumentException("Invalid timestamp range");
+        }
+        if (perMillisecond <= 0) {
+            throw new IllegalArgumentException("Invalid count of ULID per millisecond");
+        }
+        // the size must fit in a long
+        Math.multiplyExact(toTimestamp - fromTimestamp, perMillisecond);
+        return new ULIDSpliterator.TimestampRangeSpliterator(this, fromTimestamp, toTimestamp, perMillisecond);
+    }
+
+    /**
+     * Create a new ULID with timestamp and fresh randomness.
+     *
+     * @param timestamp The seed time
+     * @return A new ULID
+     */
+    ULID randomULID(long timestamp) {
+        RandomnessSource source = randomnessSource;
+        if (source != null) {
+            return new ULID(timestamp, source.nextShort(), source.nextLong());
+        }
         return new ULID(timestamp, randomnessFunction.apply(ULID.RANDOMNESS_BYTE_LEN));
     }
+
+    /**
+     * Compute the successor of the last ULID for monotonic factories. If the timestamp is not after the
+     * timestamp of the last ULID, the last ULID is incremented, otherwise a ULID with fresh randomness is created.
+     *
+     * @param last      The last ULID
+     * @param timestamp The seed time
+     * @return The next ULID
+     */
+    ULID nextULID(ULID last, long timestamp) {
+        if (timestamp <= last.getTimestamp()) {
+            return last.increment();
+        }
+        return randomULID(timestamp);
+    }
+
+    /**
+     * Compute the last ULID of a contiguous block of n ULIDs starting at the first ULID, the components are
+     * added with carrying just like {@link ULID#increment()}.
+     *
+     * @param first The first ULID of the block
+     * @param n     The count of ULIDs in the block, must be positive
+     * @return The last ULID of the block
+     */
+    static ULID blockEnd(ULID first, long n) {
+        long msb = first.getMostSignificantBits();
+        long lsb = first.getLeastSignificantBits();
+        long newLsb = lsb + (n - 1);
+        if (Long.compareUnsigned(newLsb, lsb) < 0) {
+            msb += 1;
+        }
+        return new ULID(msb, newLsb);
+    }
+
+    /**
+     * Write a contiguous block of n ULIDs starting at the first ULID into primitive arrays.
+     */
+    static void fillBlock(ULID first, long[] msbs, long[] lsbs, int off, int n) {
+        long msb = first.getMostSignificantBits();
+        long lsb = first.getLeastSignificantBits();
+        for (int i = off, end = off + n; i < end; i++) {
+            msbs[i] = msb;
+            lsbs[i] = lsb;
+            if (++lsb == 0L) {
+                msb += 1;
+            }
+        }
+    }
+
+    /**
+     * Create a contiguous block of n ULIDs starting at the first ULID.
+     */
+    static List<ULID> block(ULID first, int n) {
+        ULID[] ulids = new ULID[n];
+        long msb = first.getMostSignificantBits();
+        long lsb = first.getLeastSignificantBits();
+        for (int i = 0; i < n; i++) {
+            ulids[i] = new ULID(msb, lsb);
+            if (++lsb == 0L) {
+                msb += 1;
+            }
+        }
+        return Arrays.asList(ulids);
+    }
 }
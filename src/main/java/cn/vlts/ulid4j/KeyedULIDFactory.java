@@ -0,0 +1,406 @@
+package cn.vlts.ulid4j;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Registry of monotonic ULID sequences keyed on primitive long keys, e.g. one sequence per partition
+ * or per tenant. ULIDs generated for the same key are strictly monotonic, ULIDs generated for different keys are
+ * ordered by their timestamp component only. The int keys are widened to long keys, and object keys are hashed to
+ * long keys by {@link #keyOf(Object)}, keys with the same hash share one sequence, which keeps the ULIDs of both
+ * keys monotonic.
+ * <p>
+ * The keys are spread over stripes by their hash, every stripe is an open-addressing table of three primitive
+ * arrays, the key and the last ULID of the key as two longs, guarded by the monitor of the stripe. The timestamp of
+ * the last ULID doubles as the last access time of the key:
+ * <ul>
+ * <li>Keys idle for the idle timeout are evicted while inserting new keys, at most once per idle timeout per
+ * stripe, or explicitly by {@link #evictIdle()}.</li>
+ * <li>A stripe holds at most its share of the max count of keys. When a full stripe has no idle keys, the older
+ * half of its keys by last access is evicted.</li>
+ * <li>Every stripe remembers the greatest timestamp of its evicted keys, a new key starts after it, so an evicted
+ * key that comes back still continues after its previous ULIDs.</li>
+ * </ul>
+ * @since 2026/10/16 23:40
+ */
+public final class KeyedULIDFactory {
+
+    /**
+     * Default count of stripes
+     */
+    public static final int DEFAULT_STRIPES = 64;
+
+    /**
+     * Default max count of keys
+     */
+    public static final int DEFAULT_MAX_KEYS = 1 << 20;
+
+    /**
+     * Default idle timeout in milliseconds
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 60_000L;
+
+    /**
+     * The max count of stripes
+     */
+    private static final int MAX_STRIPES = 1 << 16;
+
+    private final LongSupplier timestampSupplier;
+
+    private final RandomnessSource randomnessSource;
+
+    private final long idleTimeoutMillis;
+
+    private final Stripe[] stripes;
+
+    private final int mask;
+
+    /**
+     * Creates a keyed factory with default timestamp supplier, randomness source, count of stripes, max count of keys
+     * and idle timeout.
+     */
+    public KeyedULIDFactory() {
+        this(ULIDFactory.DEFAULT_TIMESTAMP_SUPPLIER, ULIDFactory.DEFAULT_RANDOMNESS_SOURCE, DEFAULT_STRIPES,
+                DEFAULT_MAX_KEYS, DEFAULT_IDLE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a keyed factory.
+     *
+     * @param timestampSupplier The timestamp supplier
+     * @param randomnessSource  The randomness source
+     * @param stripes           The count of stripes, a power of 2 between 1 and 2 ^ 16
+     * @param maxKeys           The max count of keys, not less than the count of stripes
+     * @param idleTimeout       The idle timeout, not less than 1 millisecond
+     * @param unit              The unit of idle timeout
+     */
+    public KeyedULIDFactory(LongSupplier timestampSupplier,
+                            RandomnessSource randomnessSource,
+                            int stripes,
+                            int maxKeys,
+                            long idleTimeout,
+                            TimeUnit unit) {
+        if (stripes < 1 || stripes > MAX_STRIPES || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("Invalid stripes, it must be a power of 2 between 1 and 2 ^ 16");
+        }
+        if (maxKeys < stripes) {
+            throw new IllegalArgumentException("Invalid max keys, it must not be less than the count of stripes");
+        }
+        long idleTimeoutMillis = unit.toMillis(idleTimeout);
+        if (idleTimeoutMillis < 1L) {
+            throw new IllegalArgumentException("Invalid idle timeout, it must not be less than 1 millisecond");
+        }
+        this.timestampSupplier = Objects.requireNonNull(timestampSupplier);
+        this.randomnessSource = Objects.requireNonNull(randomnessSource);
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.stripes = new Stripe[stripes];
+        this.mask = stripes - 1;
+        int maxStripeKeys = (int) ((maxKeys + (long) stripes - 1) / stripes);
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe(maxStripeKeys);
+        }
+    }
+
+    /**
+     * Map an object key to the long key, boxed integral keys are unboxed, so they share the sequences of primitive
+     * keys, otherwise the hash code is spread over 64 bits.
+     *
+     * @param key The object key
+     * @return The long key
+     */
+    public static long keyOf(Object key) {
+        if (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte) {
+            return ((Number) key).longValue();
+        }
+        long h = key.hashCode() * 0x9e3779b97f4a7c15L;
+        return h ^ (h >>> 32);
+    }
+
+    /**
+     * Create a new ULID of the sequence of the key with the current timestamp.
+     *
+     * @param key The key
+     * @return A new ULID
+     */
+    public ULID ulid(long key) {
+        return ulid(key, timestampSupplier.getAsLong());
+    }
+
+    /**
+     * Create a new ULID of the sequence of the object key with the current timestamp.
+     *
+     * @param key The object key
+     * @return A new ULID
+     */
+    public ULID ulid(Object key) {
+        return ulid(keyOf(key), timestampSupplier.getAsLong());
+    }
+
+    /**
+     * Create a new ULID of the sequence of the key with the timestamp.
+     *
+     * @param key       The key
+     * @param timestamp The seed time
+     * @return A new ULID
+     */
+    public ULID ulid(long key, long timestamp) {
+        ULID.checkTimestamp(timestamp);
+        long h = mix(key);
+        Stripe stripe = stripes[(int) (h >>> 32) & mask];
+        long msb;
+        long lsb;
+        synchronized (stripe) {
+            int pos = stripe.acquire(key, (int) h, timestamp, idleTimeoutMillis);
+            if (pos >= 0 && timestamp <= stripe.msbs[pos] >>> 16) {
+                msb = stripe.msbs[pos];
+                lsb = stripe.lsbs[pos];
+                if (++lsb == 0L) {
+                    msb++;
+                }
+            } else {
+                long seedTime = timestamp;
+                if (pos < 0) {
+                    // a new key may be an evicted key coming back, its ULIDs have timestamps not after the max
+                    // evicted, so it starts with fresh randomness in the next millisecond at the earliest
+                    pos = ~pos;
+                    seedTime = Math.max(timestamp, stripe.maxEvicted + 1);
+                }
+                msb = (seedTime << 16) | (randomnessSource.nextShort() & 0xffffL);
+                lsb = randomnessSource.nextLong();
+                if (msb == 0L) {
+                    // the msb 0 marks an empty slot, only a ULID of timestamp 0 can have it
+                    msb = 1L;
+                }
+            }
+            stripe.msbs[pos] = msb;
+            stripe.lsbs[pos] = lsb;
+        }
+        return new ULID(msb, lsb);
+    }
+
+    /**
+     * Evict the keys idle for the idle timeout from all stripes.
+     *
+     * @return The count of evicted keys
+     */
+    public int evictIdle() {
+        long threshold = timestampSupplier.getAsLong() - idleTimeoutMillis;
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.evict(threshold);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the count of keys, it is only an estimate under concurrent access.
+     *
+     * @return The count of keys
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Mix the key with the finalizer of MurmurHash3, the high bits select the stripe and the low bits the slot.
+     */
+    static long mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Open-addressing table of one stripe, probed linearly. The key 0 is stored in the extra slot at index capacity,
+     * slots whose msb is 0 are empty since the last ULID of a key is never the zero ULID. Removal shifts the
+     * following keys back instead of leaving tombstones.
+     */
+    static final class Stripe {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final int maxSize;
+
+        private final int maxCapacity;
+
+        long[] keys;
+
+        long[] msbs;
+
+        long[] lsbs;
+
+        int capacity;
+
+        int mask;
+
+        int size;
+
+        /**
+         * The greatest timestamp of evicted keys, the ULIDs of new keys are after it
+         */
+        long maxEvicted = -1L;
+
+        private long lastSweep;
+
+        Stripe(int maxSize) {
+            this.maxSize = maxSize;
+            // keep the load factor not greater than 1 / 2 at the max size
+            this.maxCapacity = Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, maxSize * 2 - 1)) << 1);
+            allocate(INITIAL_CAPACITY);
+        }
+
+        private void allocate(int newCapacity) {
+            this.keys = new long[newCapacity + 1];
+            this.msbs = new long[newCapacity + 1];
+            this.lsbs = new long[newCapacity + 1];
+            this.capacity = newCapacity;
+            this.mask = newCapacity - 1;
+        }
+
+        /**
+         * Find the slot of the key, insert the key if it is absent.
+         *
+         * @return The slot of an existing key, or the bitwise complement of the slot of an inserted key, the caller
+         * must store the first ULID of the inserted key before releasing the monitor
+         */
+        int acquire(long key, int h, long timestamp, long idleTimeoutMillis) {
+            int pos = find(key, h);
+            if (pos >= 0) {
+                return pos;
+            }
+            if (size >= maxSize || size >= capacity >> 1 || timestamp - lastSweep >= idleTimeoutMillis) {
+                makeRoom(timestamp, idleTimeoutMillis);
+                pos = find(key, h);
+            }
+            pos = -pos - 1;
+            if (pos != capacity) {
+                keys[pos] = key;
+            }
+            size++;
+            return ~pos;
+        }
+
+        private int find(long key, int h) {
+            if (key == 0L) {
+                return msbs[capacity] != 0L ? capacity : -capacity - 1;
+            }
+            int pos = h & mask;
+            while (msbs[pos] != 0L) {
+                if (keys[pos] == key) {
+                    return pos;
+                }
+                pos = (pos + 1) & mask;
+            }
+            return -pos - 1;
+        }
+
+        /**
+         * Evict idle keys, then grow the table or evict the older half of keys if it is still full.
+         */
+        private void makeRoom(long timestamp, long idleTimeoutMillis) {
+            lastSweep = timestamp;
+            evict(timestamp - idleTimeoutMillis);
+            if (size < maxSize && size >= capacity >> 1 && capacity < maxCapacity) {
+                rehash(capacity << 1);
+            }
+            if (size >= maxSize) {
+                long min = Long.MAX_VALUE;
+                long max = Long.MIN_VALUE;
+                for (int i = 0; i <= capacity; i++) {
+                    if (msbs[i] != 0L) {
+                        long last = msbs[i] >>> 16;
+                        min = Math.min(min, last);
+                        max = Math.max(max, last);
+                    }
+                }
+                evict(min + ((max - min) >>> 1));
+            }
+        }
+
+        /**
+         * Evict the keys whose last ULID is not after the threshold.
+         */
+        int evict(long threshold) {
+            int count = 0;
+            if (msbs[capacity] != 0L && msbs[capacity] >>> 16 <= threshold) {
+                removeAt(capacity);
+                count++;
+            }
+            for (int i = 0; i < capacity; ) {
+                if (msbs[i] != 0L && msbs[i] >>> 16 <= threshold) {
+                    // a following key may be shifted into this slot, check it again
+                    removeAt(i);
+                    count++;
+                } else {
+                    i++;
+                }
+            }
+            return count;
+        }
+
+        private void removeAt(int pos) {
+            maxEvicted = Math.max(maxEvicted, msbs[pos] >>> 16);
+            size--;
+            if (pos == capacity) {
+                msbs[pos] = 0L;
+                return;
+            }
+            int last;
+            int slot;
+            for (; ; ) {
+                last = pos;
+                pos = (pos + 1) & mask;
+                for (; ; ) {
+                    if (msbs[pos] == 0L) {
+                        msbs[last] = 0L;
+                        return;
+                    }
+                    slot = (int) mix(keys[pos]) & mask;
+                    if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                        break;
+                    }
+                    pos = (pos + 1) & mask;
+                }
+                keys[last] = keys[pos];
+                msbs[last] = msbs[pos];
+                lsbs[last] = lsbs[pos];
+            }
+        }
+
+        private void rehash(int newCapacity) {
+            long[] oldKeys = keys;
+            long[] oldMsbs = msbs;
+            long[] oldLsbs = lsbs;
+            int oldCapacity = capacity;
+            allocate(newCapacity);
+            for (int i = 0; i < oldCapacity; i++) {
+                if (oldMsbs[i] != 0L) {
+                    int pos = (int) mix(oldKeys[i]) & mask;
+                    while (msbs[pos] != 0L) {
+                        pos = (pos + 1) & mask;
+                    }
+                    keys[pos] = oldKeys[i];
+                    msbs[pos] = oldMsbs[i];
+                    lsbs[pos] = oldLsbs[i];
+                }
+            }
+            msbs[newCapacity] = oldMsbs[oldCapacity];
+            lsbs[newCapacity] = oldLsbs[oldCapacity];
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package cn.vlts.ulid4j;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Cache-line-padded volatile long, fields of super class are always laid out first, so the value is
+ * surrounded by at least 56 bytes on both sides and never shares a cache line with other hot fields.
+ * @since 2026/10/17 10:20
+ */
+@SuppressWarnings("unused")
+final class PaddedLong extends PaddedLongValue {
+
+    long p11, p12, p13, p14, p15, p16, p17;
+
+    PaddedLong() {
+    }
+
+    PaddedLong(long value) {
+        this.value = value;
+    }
+}
+
+/**
+ * Left padding of value, keep the value away from the object header and previous allocation.
+ */
+@SuppressWarnings("unused")
+class PaddedLongLeftPadding {
+
+    long p01, p02, p03, p04, p05, p06, p07;
+}
+
+/**
+ * Value with the atomic operations.
+ */
+class PaddedLongValue extends PaddedLongLeftPadding {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(PaddedLongValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    volatile long value;
+
+    long get() {
+        return value;
+    }
+
+    void set(long value) {
+        this.value = value;
+    }
+
+    boolean compareAndSet(long expected, long value) {
+        return VALUE.compareAndSet(this, expected, value);
+    }
+
+    void setRelease(long value) {
+        VALUE.setRelease(this, value);
+    }
+}
@@ -0,0 +1,240 @@
+package cn.vlts.ulid4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Monotonic ULID factory whose high-water mark survives restarts, so ULIDs created after a restart
+ * always sort after the ULIDs created before, even if the clock stepped back meanwhile. The factory holds a lease of
+ * future timestamps checkpointed to a memory-mapped file: every ULID handed out has a timestamp not after the
+ * durable lease, and a background daemon thread extends the lease write-behind once half of it is used, so the
+ * hot path does no I/O unless the writer falls behind by a whole lease. On startup the factory resumes after the
+ * checkpointed lease, i.e. from max(clock, checkpoint + 1). Closing the factory checkpoints the last timestamp
+ * instead of the lease, so a clean restart does not skip ahead.
+ * <p>
+ * The checkpoint is written to two alternating slots with a check value, so a torn write never loses the previous
+ * checkpoint. One file must be used by one factory only.
+ * @since 2026/10/16 23:10
+ */
+public final class PersistentMonotonicULIDFactory extends AbstractMonotonicULIDFactory implements Closeable {
+
+    /**
+     * Default length of lease in milliseconds
+     */
+    public static final long DEFAULT_LEASE_MILLIS = 1000L;
+
+    /**
+     * Magic number of file, "ULIDMON" followed by format version 1
+     */
+    private static final long MAGIC = 0x554c49444d4f4e_01L;
+
+    private static final long CHECK_MASK = 0x5a5a5a5a5a5a5a5aL;
+
+    private static final int FILE_LEN = 8 + 16 * 2;
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer mapped;
+
+    private final long leaseMillis;
+
+    private final Thread writer;
+
+    /**
+     * The durable lease, no ULID after this timestamp is handed out
+     */
+    private volatile long lease;
+
+    private long checkpoints;
+
+    private volatile boolean closed;
+
+    private PersistentMonotonicULIDFactory(FileChannel channel,
+                                           LongSupplier timestampSupplier,
+                                           RandomnessSource randomnessSource,
+                                           long leaseMillis) throws IOException {
+        super(timestampSupplier, randomnessSource, null);
+        this.channel = channel;
+        this.leaseMillis = leaseMillis;
+        long length = channel.size();
+        if (length != 0 && length != FILE_LEN) {
+            throw new IOException("Invalid ULID checkpoint file");
+        }
+        this.mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_LEN);
+        long checkpoint = -1L;
+        if (length == 0) {
+            mapped.putLong(0, MAGIC);
+        } else {
+            if (mapped.getLong(0) != MAGIC) {
+                throw new IOException("Invalid ULID checkpoint file");
+            }
+            for (int slot = 0; slot < 2; slot++) {
+                long value = mapped.getLong(8 + slot * 16);
+                if ((value ^ CHECK_MASK) == mapped.getLong(16 + slot * 16) && value > checkpoint) {
+                    checkpoint = value;
+                    this.checkpoints = slot + 1;
+                }
+            }
+            if (checkpoint < 0) {
+                throw new IOException("Invalid ULID checkpoint file");
+            }
+        }
+        // every ULID created before has a timestamp not after the checkpoint, so resume with fresh randomness right
+        // after it if the clock is behind
+        initLastULID(randomULID(checkpoint + 1));
+        long now = Math.max(timestampSupplier.getAsLong(), checkpoint + 1);
+        checkpoint(now + leaseMillis);
+        this.lease = now + leaseMillis;
+        this.writer = new Thread(this::write, "ulid4j-persistent-monotonic-factory");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Open a persistent monotonic factory with default timestamp supplier, randomness source and lease, the file is
+     * created if it does not exist.
+     *
+     * @param path The path of checkpoint file
+     * @return A new persistent monotonic factory
+     * @throws IOException If an I/O error occurs or the file is not a valid checkpoint file
+     */
+    public static PersistentMonotonicULIDFactory open(Path path) throws IOException {
+        return open(path, DEFAULT_TIMESTAMP_SUPPLIER, DEFAULT_RANDOMNESS_SOURCE, DEFAULT_LEASE_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Open a persistent monotonic factory, the file is created if it does not exist.
+     *
+     * @param path              The path of checkpoint file
+     * @param timestampSupplier The timestamp supplier
+     * @param randomnessSource  The randomness source
+     * @param lease             The length of lease, not less than 2 milliseconds. A longer lease checkpoints less
+     *                          often but skips further ahead after a crash
+     * @param unit              The unit of lease
+     * @return A new persistent monotonic factory
+     * @throws IOException If an I/O error occurs or the file is not a valid checkpoint file
+     */
+    public static PersistentMonotonicULIDFactory open(Path path,
+                                                      LongSupplier timestampSupplier,
+                                                      RandomnessSource randomnessSource,
+                                                      long lease,
+                                                      TimeUnit unit) throws IOException {
+        Objects.requireNonNull(timestampSupplier);
+        Objects.requireNonNull(randomnessSource);
+        long leaseMillis = unit.toMillis(lease);
+        if (leaseMillis < 2L) {
+            throw new IllegalArgumentException("Invalid lease, it must not be less than 2 milliseconds");
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            return new PersistentMonotonicULIDFactory(channel, timestampSupplier, randomnessSource, leaseMillis);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Make sure the lease covers the last ULID before handing out the ULIDs, the lease is extended inline only if
+     * the writer fell behind.
+     */
+    @Override
+    void afterReserve(ULID last) {
+        long timestamp = last.getTimestamp();
+        if (timestamp > lease) {
+            extendLease(timestamp, timestamp + leaseMillis);
+        }
+    }
+
+    /**
+     * Checkpoint and publish the new lease if the current lease does not cover the required timestamp.
+     */
+    private synchronized void extendLease(long required, long newLease) {
+        if (required <= lease) {
+            return;
+        }
+        if (closed) {
+            throw new IllegalStateException("Factory is closed");
+        }
+        try {
+            checkpoint(newLease);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        lease = newLease;
+    }
+
+    /**
+     * Write the checkpoint into the next slot and force it to the storage.
+     */
+    private void checkpoint(long value) throws IOException {
+        int offset = 8 + (int) (checkpoints++ & 1) * 16;
+        mapped.putLong(offset, value);
+        mapped.putLong(offset + 8, value ^ CHECK_MASK);
+        mapped.force();
+    }
+
+    private void write() {
+        long parkNanos = TimeUnit.MILLISECONDS.toNanos(leaseMillis) / 4;
+        while (!closed) {
+            LockSupport.parkNanos(this, parkNanos);
+            try {
+                long now = Math.max(timestampSupplier.getAsLong(), lastULID(0).getTimestamp());
+                // extend once half of the lease is used, one write for any count of ULIDs
+                extendLease(now + leaseMillis / 2, now + leaseMillis);
+            } catch (RuntimeException e) {
+                // the hot path extends inline and sees the failure itself
+            }
+        }
+    }
+
+    /**
+     * Get the durable lease, no ULID after this timestamp is handed out before the lease is extended.
+     *
+     * @return The timestamp of lease
+     */
+    public long getLease() {
+        return lease;
+    }
+
+    /**
+     * Stop the writer, checkpoint the timestamp of the last ULID and close the file. ULIDs within the last timestamp
+     * can still be created after closing, later timestamps are rejected with {@link IllegalStateException}.
+     *
+     * @throws IOException If an I/O error occurs
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            long last = lastULID(0).getTimestamp();
+            if (last < lease) {
+                // shrink the lease first, so a concurrent ULID is either seen by the second read or checks the
+                // lease afterwards and gets rejected
+                lease = last;
+                last = Math.max(last, lastULID(0).getTimestamp());
+                checkpoint(last);
+                lease = last;
+            }
+        } finally {
+            channel.close();
+        }
+    }
+}
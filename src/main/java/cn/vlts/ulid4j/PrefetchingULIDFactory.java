@@ -0,0 +1,297 @@
+package cn.vlts.ulid4j;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Decorator of ULID factory which keeps a bounded lock-free ring buffer of pre-generated ULIDs, filled
+ * by a background daemon thread, so slow calls of the delegate, e.g. CAS contention, slow randomness or allocation,
+ * are moved off the calling threads. The ring buffer is a bounded queue with per-slot sequences in the style of
+ * Dmitry Vyukov, with a single producer.
+ * <ul>
+ * <li>{@link #poll()} is wait-free, it makes a single attempt to claim the head slot and returns null if the
+ * buffer is empty, the slot is contended or the ULID is stale.</li>
+ * <li>{@link #ulid()} falls back to inline generation by the delegate whenever {@link #poll()} returns null.</li>
+ * <li>The producer sleeps until the size drops to the low watermark, then refills up to the high watermark. While
+ * no ULID is taken, only one batch is kept fresh.</li>
+ * <li>The timestamp of a returned ULID never lags more than the max staleness behind the timestamp supplier, stale
+ * ULIDs are skipped by consumers and discarded by the producer.</li>
+ * </ul>
+ * The ULIDs are unique as long as the delegate creates unique ULIDs, but the ULIDs handed out are not monotonic
+ * even with a monotonic delegate, since an inline ULID may be created before buffered ULIDs are handed out.
+ * @since 2026/10/16 22:40
+ */
+public final class PrefetchingULIDFactory implements ULIDFactory, AutoCloseable {
+
+    /**
+     * Default capacity of ring buffer
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Default max staleness in milliseconds
+     */
+    public static final long DEFAULT_MAX_STALENESS_MILLIS = 10L;
+
+    /**
+     * The max count of ULIDs created by one call of delegate
+     */
+    private static final int BATCH_SIZE = 64;
+
+    private final ULIDFactory delegate;
+
+    private final LongSupplier timestampSupplier;
+
+    private final long maxStalenessMillis;
+
+    private final int lowWatermark;
+
+    private final int highWatermark;
+
+    private final int mask;
+
+    private final long[] msbs;
+
+    private final long[] lsbs;
+
+    /**
+     * Slot i is free for the producer at position p if its sequence is p, and ready for consumers if it is p + 1
+     */
+    private final AtomicLongArray sequences;
+
+    private final PaddedLong head = new PaddedLong();
+
+    private final PaddedLong tail = new PaddedLong();
+
+    private final LongAdder fallbacks = new LongAdder();
+
+    private final LongAdder discarded = new LongAdder();
+
+    private final Thread producer;
+
+    private volatile boolean running = true;
+
+    /**
+     * Creates and starts a prefetching factory with default capacity, watermarks and max staleness.
+     *
+     * @param delegate          The delegate factory
+     * @param timestampSupplier The timestamp supplier to check staleness, it should be the one of the delegate
+     */
+    public PrefetchingULIDFactory(ULIDFactory delegate, LongSupplier timestampSupplier) {
+        this(delegate, timestampSupplier, DEFAULT_CAPACITY, DEFAULT_CAPACITY / 2, DEFAULT_CAPACITY,
+                DEFAULT_MAX_STALENESS_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates and starts a prefetching factory.
+     *
+     * @param delegate          The delegate factory
+     * @param timestampSupplier The timestamp supplier to check staleness, it should be the one of the delegate
+     * @param capacity          The capacity of ring buffer, a power of 2 between 2 and 2 ^ 24
+     * @param lowWatermark      The size at or below which the producer refills, less than the high watermark
+     * @param highWatermark     The size up to which the producer refills, not greater than the capacity
+     * @param maxStaleness      The max staleness, not less than 1 millisecond
+     * @param unit              The unit of max staleness
+     */
+    public PrefetchingULIDFactory(ULIDFactory delegate,
+                                  LongSupplier timestampSupplier,
+                                  int capacity,
+                                  int lowWatermark,
+                                  int highWatermark,
+                                  long maxStaleness,
+                                  TimeUnit unit) {
+        if (capacity < 2 || capacity > (1 << 24) || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Invalid capacity, it must be a power of 2 between 2 and 2 ^ 24");
+        }
+        if (lowWatermark < 0 || lowWatermark >= highWatermark || highWatermark > capacity) {
+            throw new IllegalArgumentException("Invalid watermarks, it must be 0 <= low < high <= capacity");
+        }
+        long maxStalenessMillis = unit.toMillis(maxStaleness);
+        if (maxStalenessMillis < 1L) {
+            throw new IllegalArgumentException("Invalid max staleness, it must not be less than 1 millisecond");
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.timestampSupplier = Objects.requireNonNull(timestampSupplier);
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+        this.mask = capacity - 1;
+        this.msbs = new long[capacity];
+        this.lsbs = new long[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.lazySet(i, i);
+        }
+        this.producer = new Thread(this::produce, "ulid4j-prefetching-factory");
+        this.producer.setDaemon(true);
+        this.producer.start();
+    }
+
+    @Override
+    public ULID ulid() {
+        ULID ulid = poll();
+        if (ulid != null) {
+            return ulid;
+        }
+        fallbacks.increment();
+        LockSupport.unpark(producer);
+        return delegate.ulid();
+    }
+
+    /**
+     * Create a new ULID with the timestamp by the delegate, the buffer is not used.
+     */
+    @Override
+    public ULID ulid(long timestamp) {
+        return delegate.ulid(timestamp);
+    }
+
+    /**
+     * Take a pre-generated ULID from the buffer, wait-free.
+     *
+     * @return A ULID, or null if the buffer is empty, the head slot is contended or the ULID is stale
+     */
+    public ULID poll() {
+        long position = head.get();
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1 || !head.compareAndSet(position, position + 1)) {
+            return null;
+        }
+        long msb = msbs[index];
+        long lsb = lsbs[index];
+        sequences.lazySet(index, position + mask + 1);
+        if (tail.get() - position - 1 == lowWatermark) {
+            LockSupport.unpark(producer);
+        }
+        if (timestampSupplier.getAsLong() - (msb >>> 16) > maxStalenessMillis) {
+            discarded.increment();
+            return null;
+        }
+        return new ULID(msb, lsb);
+    }
+
+    /**
+     * Get the count of buffered ULIDs, it is only an estimate under concurrent access.
+     *
+     * @return The count of buffered ULIDs
+     */
+    public int size() {
+        return (int) Math.max(0L, tail.get() - head.get());
+    }
+
+    /**
+     * Get the count of ULIDs created inline because no buffered ULID was available.
+     *
+     * @return The count of fallbacks
+     */
+    public long getFallbacks() {
+        return fallbacks.sum();
+    }
+
+    /**
+     * Get the count of buffered ULIDs discarded as stale.
+     *
+     * @return The count of discarded ULIDs
+     */
+    public long getDiscarded() {
+        return discarded.sum();
+    }
+
+    private void produce() {
+        long[] batchMsbs = new long[BATCH_SIZE];
+        long[] batchLsbs = new long[BATCH_SIZE];
+        // wake up in time to discard the stale ULIDs before consumers run into them
+        long parkNanos = TimeUnit.MILLISECONDS.toNanos(maxStalenessMillis) / 2;
+        // the positions taken by consumers and the count of fallbacks at the last cycle, to detect idle periods
+        long ownDiscarded = 0L;
+        long lastTaken = -1L;
+        long lastFallbacks = 0L;
+        try {
+            while (running) {
+                ownDiscarded += discardStale();
+                long taken = head.get() - ownDiscarded;
+                long fallbackCount = fallbacks.sum();
+                // without any demand since the last cycle only one batch is kept fresh, instead of regenerating the
+                // whole buffer every time it becomes stale
+                int target = taken != lastTaken || fallbackCount != lastFallbacks ? highWatermark
+                        : Math.min(highWatermark, BATCH_SIZE);
+                lastTaken = taken;
+                lastFallbacks = fallbackCount;
+                int size = size();
+                if (size <= lowWatermark) {
+                    refill:
+                    while (size < target && running) {
+                        int n = Math.min(target - size, BATCH_SIZE);
+                        delegate.fill(batchMsbs, batchLsbs, 0, n);
+                        for (int i = 0; i < n; i++) {
+                            if (!offer(batchMsbs[i], batchLsbs[i])) {
+                                break refill;
+                            }
+                        }
+                        size = size();
+                    }
+                }
+                LockSupport.parkNanos(this, parkNanos);
+            }
+        } catch (RuntimeException e) {
+            // the consumers fall back to the delegate and see the failure themselves
+            running = false;
+        }
+    }
+
+    /**
+     * Publish a ULID, only called by the producer.
+     *
+     * @return false if the slot is still held by a consumer
+     */
+    private boolean offer(long msb, long lsb) {
+        long position = tail.get();
+        int index = (int) position & mask;
+        if (sequences.get(index) != position) {
+            return false;
+        }
+        msbs[index] = msb;
+        lsbs[index] = lsb;
+        sequences.lazySet(index, position + 1);
+        tail.setRelease(position + 1);
+        return true;
+    }
+
+    /**
+     * Discard the stale ULIDs from the head, only called by the producer, the only writer of slots.
+     *
+     * @return The count of discarded ULIDs
+     */
+    private long discardStale() {
+        long now = timestampSupplier.getAsLong();
+        long count = 0L;
+        for (; ; ) {
+            long position = head.get();
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1 || now - (msbs[index] >>> 16) <= maxStalenessMillis) {
+                discarded.add(count);
+                return count;
+            }
+            if (head.compareAndSet(position, position + 1)) {
+                sequences.lazySet(index, position + mask + 1);
+                count++;
+            }
+        }
+    }
+
+    /**
+     * Stop the background thread, the buffered ULIDs are still handed out until they are stale, then all ULIDs are
+     * created inline.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(producer);
+    }
+}
@@ -0,0 +1,28 @@
+package cn.vlts.ulid4j;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Allocation-free randomness source, provide the 80 bits randomness component of ULID as a short
+ * and a long.
+ * @since 2026/10/16 10:20
+ */
+@FunctionalInterface
+public interface RandomnessSource {
+
+    /**
+     * Get the next 64 random bits, used as the low 64 bits of the randomness component.
+     *
+     * @return 64 random bits
+     */
+    long nextLong();
+
+    /**
+     * Get the next 16 random bits, used as the high 16 bits of the randomness component.
+     *
+     * @return 16 random bits
+     */
+    default short nextShort() {
+        return (short) (nextLong() >>> 48);
+    }
+}
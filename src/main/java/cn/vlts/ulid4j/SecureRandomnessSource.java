@@ -0,0 +1,205 @@
+package cn.vlts.ulid4j;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Buffered randomness source backed by {@link SecureRandom}, for cryptographically strong ULIDs at
+ * high rate. Background daemon threads pull large blocks of entropy from their own secure random ahead of demand
+ * and keep them in a lock-free pool, every thread takes whole blocks from the pool and hands out the random bits
+ * from its own block, so the hot path takes no lock. If the pool runs dry, the block is filled inline from a
+ * secure random owned by the current thread, so threads never serialize on one provider lock.
+ * <pre>{@code
+ * ULIDFactory ulidFactory = ULIDFactory.factory(System::currentTimeMillis, new SecureRandomnessSource());
+ * }</pre>
+ * @since 2026/10/16 16:50
+ */
+public final class SecureRandomnessSource implements RandomnessSource, AutoCloseable {
+
+    /**
+     * Default length of block in bytes, holds the randomness of 819 ULIDs
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 8192;
+
+    /**
+     * Default count of filled blocks kept in the pool
+     */
+    public static final int DEFAULT_POOL_SIZE = 16;
+
+    /**
+     * Default count of refill threads
+     */
+    public static final int DEFAULT_REFILLERS = Math.max(1, Runtime.getRuntime().availableProcessors() >> 2);
+
+    private static final VarHandle LONG_HANDLE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final VarHandle SHORT_HANDLE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+
+    private final Supplier<SecureRandom> secureRandomSupplier;
+
+    private final int blockSize;
+
+    private final int poolSize;
+
+    private final Queue<byte[]> filledBlocks = new ConcurrentLinkedQueue<>();
+
+    private final Queue<byte[]> emptyBlocks = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger filledCount = new AtomicInteger();
+
+    private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(Block::new);
+
+    private final Thread[] refillers;
+
+    private volatile boolean running = true;
+
+    /**
+     * Creates a buffered randomness source with DRBG secure randoms (or the default secure random if DRBG is not
+     * available), default block size, pool size and count of refill threads.
+     */
+    public SecureRandomnessSource() {
+        this(SecureRandomnessSource::newSecureRandom, DEFAULT_BLOCK_SIZE, DEFAULT_POOL_SIZE, DEFAULT_REFILLERS);
+    }
+
+    /**
+     * Creates a buffered randomness source.
+     *
+     * @param secureRandomSupplier The supplier of secure random, called once per refill thread and once per thread
+     *                             that fills its block inline
+     * @param blockSize            The length of block in bytes, not less than 64
+     * @param poolSize             The count of filled blocks kept in the pool, positive
+     * @param refillers            The count of refill threads, positive
+     */
+    public SecureRandomnessSource(Supplier<SecureRandom> secureRandomSupplier, int blockSize, int poolSize,
+                                  int refillers) {
+        if (blockSize < 64) {
+            throw new IllegalArgumentException("Invalid block size, it must not be less than 64");
+        }
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("Invalid pool size, it must be positive");
+        }
+        if (refillers <= 0) {
+            throw new IllegalArgumentException("Invalid count of refill threads, it must be positive");
+        }
+        this.secureRandomSupplier = secureRandomSupplier;
+        this.blockSize = blockSize;
+        this.poolSize = poolSize;
+        this.refillers = new Thread[refillers];
+        for (int i = 0; i < refillers; i++) {
+            SecureRandom secureRandom = secureRandomSupplier.get();
+            this.refillers[i] = new Thread(() -> refill(secureRandom), "ulid4j-secure-randomness-refiller-" + i);
+            this.refillers[i].setDaemon(true);
+            this.refillers[i].start();
+        }
+    }
+
+    private static SecureRandom newSecureRandom() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+
+    @Override
+    public long nextLong() {
+        Block block = blocks.get();
+        if (block.position > blockSize - Long.BYTES) {
+            swap(block);
+        }
+        long value = (long) LONG_HANDLE.get(block.bytes, block.position);
+        block.position += Long.BYTES;
+        return value;
+    }
+
+    @Override
+    public short nextShort() {
+        Block block = blocks.get();
+        if (block.position > blockSize - Short.BYTES) {
+            swap(block);
+        }
+        short value = (short) SHORT_HANDLE.get(block.bytes, block.position);
+        block.position += Short.BYTES;
+        return value;
+    }
+
+    /**
+     * Replace the exhausted block of current thread with a filled block from the pool, or fill it inline if the
+     * pool is empty.
+     */
+    private void swap(Block block) {
+        byte[] filled = filledBlocks.poll();
+        if (filled != null) {
+            if (block.bytes != null) {
+                emptyBlocks.offer(block.bytes);
+            }
+            block.bytes = filled;
+            if (filledCount.decrementAndGet() <= poolSize >> 1) {
+                wakeUpRefillers();
+            }
+        } else {
+            if (block.bytes == null) {
+                block.bytes = new byte[blockSize];
+            }
+            if (block.secureRandom == null) {
+                block.secureRandom = secureRandomSupplier.get();
+            }
+            block.secureRandom.nextBytes(block.bytes);
+            wakeUpRefillers();
+        }
+        block.position = 0;
+    }
+
+    private void wakeUpRefillers() {
+        for (Thread refiller : refillers) {
+            LockSupport.unpark(refiller);
+        }
+    }
+
+    private void refill(SecureRandom secureRandom) {
+        while (running) {
+            if (filledCount.get() < poolSize) {
+                byte[] bytes = emptyBlocks.poll();
+                if (bytes == null) {
+                    bytes = new byte[blockSize];
+                }
+                secureRandom.nextBytes(bytes);
+                filledBlocks.offer(bytes);
+                filledCount.incrementAndGet();
+            } else {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    /**
+     * Stop the refill threads, the source still works after closing, but every block is filled inline.
+     */
+    @Override
+    public void close() {
+        running = false;
+        wakeUpRefillers();
+    }
+
+    /**
+     * Block of random bytes owned by a thread, it starts exhausted.
+     */
+    private final class Block {
+
+        byte[] bytes;
+
+        int position = blockSize;
+
+        SecureRandom secureRandom;
+    }
+}
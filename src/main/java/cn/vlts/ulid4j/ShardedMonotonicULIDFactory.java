@@ -0,0 +1,88 @@
+package cn.vlts.ulid4j;
+
+import java.util.function.LongSupplier;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Sharded monotonic ULID factory, the highest shard bits of the randomness component hold a fixed
+ * shard id, e.g. the id of the generator node, and the remaining 80 - shard bits are monotonic randomness.
+ * <pre>
+ * | timestamp (48) | shard (shardBits) | randomness (80 - shardBits) |
+ * </pre>
+ * ULIDs of different shards never collide, ULIDs of the same factory are strictly monotonic. The increment never
+ * carries into the shard bits, if the randomness of a millisecond is exhausted, the timestamp is advanced by one
+ * and the randomness restarts from zero. The shard id can be read back by {@link ULID#getShard(int)}.
+ * @since 2026/10/16 19:10
+ */
+final class ShardedMonotonicULIDFactory extends AbstractMonotonicULIDFactory {
+
+    /**
+     * The max count of shard bits, the shard bits must fit in the randomness bits of the most significant 64 bits
+     */
+    static final int MAX_SHARD_BITS = 16;
+
+    private final long shardValue;
+
+    /**
+     * The mask of randomness bits in the most significant 64 bits
+     */
+    private final long randomnessMask;
+
+    ShardedMonotonicULIDFactory(LongSupplier timestampSupplier,
+                                RandomnessSource randomnessSource,
+                                int shardBits,
+                                int shard,
+                                ULIDFactoryMetrics metrics) {
+        super(timestampSupplier, randomnessSource, metrics);
+        if (shardBits <= 0 || shardBits > MAX_SHARD_BITS) {
+            throw new IllegalArgumentException("Invalid shard bits, it must be between 1 and " + MAX_SHARD_BITS);
+        }
+        if (shard < 0 || shard >= 1 << shardBits) {
+            throw new IllegalArgumentException("Invalid shard, it must be between 0 and " + ((1 << shardBits) - 1));
+        }
+        this.shardValue = (long) shard << (16 - shardBits);
+        this.randomnessMask = (1L << (16 - shardBits)) - 1;
+        initLastULID(randomULID(0L));
+    }
+
+    @Override
+    ULID randomULID(long timestamp) {
+        RandomnessSource source = randomnessSource;
+        return new ULID(timestamp, (short) ((source.nextShort() & randomnessMask) | shardValue), source.nextLong());
+    }
+
+    @Override
+    ULID nextULID(ULID last, long timestamp) {
+        if (timestamp <= last.getTimestamp()) {
+            return fits(last, 2L) ? last.increment() : overflow(last);
+        }
+        return randomULID(timestamp);
+    }
+
+    /**
+     * The block never crosses the shard bits.
+     */
+    @Override
+    ULID fitBlock(ULID first, long n) {
+        return fits(first, n) ? first : overflow(first);
+    }
+
+    /**
+     * Check that n ULIDs starting at the first ULID stay within the randomness bits.
+     */
+    private boolean fits(ULID first, long n) {
+        long lsb = first.getLeastSignificantBits();
+        long newLsb = lsb + (n - 1);
+        long carry = Long.compareUnsigned(newLsb, lsb) < 0 ? 1L : 0L;
+        return (first.getMostSignificantBits() & randomnessMask) + carry <= randomnessMask;
+    }
+
+    /**
+     * The successor of a ULID whose randomness is exhausted, the timestamp is advanced and the randomness
+     * restarts from zero.
+     */
+    private ULID overflow(ULID ulid) {
+        return new ULID(((ulid.getTimestamp() + 1) << 16) | shardValue, 0L);
+    }
+}
@@ -1,7 +1,15 @@
 package cn.vlts.ulid4j;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.io.Serializable;
-import java.nio.charset.StandardCharsets;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -24,44 +32,29 @@ public final class ULID implements Serializable, Comparable<ULID> {
     private static final long TIMESTAMP_MASK = 0xffff000000000000L;
 
     /**
-     * The length of randomness component of ULID
+     * The length of canonical string of ULID
      */
-    public static final int RANDOMNESS_BYTE_LEN = 10;
+    public static final int CANONICAL_STRING_LEN = 26;
 
     /**
-     * Default alphabet of ULID
+     * The max value of timestamp component, 2 ^ 48 - 1
      */
-    private static final char[] DEFAULT_ALPHABET = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C',
-            'D', 'E', 'F', 'G', 'H', 'J', 'K', 'M', 'N', 'P', 'Q', 'R', 'S', 'T', 'V', 'W', 'X', 'Y', 'Z'};
+    public static final long MAX_TIMESTAMP = 0xffffffffffffL;
 
     /**
-     * Decoding table of ULID
+     * The length of binary form of ULID
      */
-    private static final byte[] DECODING_TABLE = new byte[]{
-            -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
-            -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
-            -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
-            -1, -1, -1, -1, -1, -1, -1, -1, -1, -1,
-            -1, -1, -1, -1, -1, -1, -1, -1, 0x00, 0x01,
-            0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08, 0x09, -1, -1,
-            -1, -1, -1, -1, -1, 0x0a, 0x0b, 0x0c, 0x0d, 0x0e,
-            0x0f, 0x10, 0x11, -1, 0x12, 0x13, -1, 0x14, 0x15, -1,
-            0x16, 0x17, 0x18, 0x19, 0x1a, -1, 0x1b, 0x1c, 0x1d, 0x1e,
-            0x1f, -1, -1, -1, -1, -1, -1, 0x0a, 0x0b, 0x0c,
-            0x0d, 0x0e, 0x0f, 0x10, 0x11, -1, 0x12, 0x13, -1, 0x14,
-            0x15, -1, 0x16, 0x17, 0x18, 0x19, 0x1a, -1, 0x1b, 0x1c,
-            0x1d, 0x1e, 0x1f, -1, -1, -1, -1, -1
-    };
+    public static final int BINARY_BYTE_LEN = 16;
 
     /**
-     * Default alphabet mask
+     * The length of randomness component of ULID
      */
-    private static final int DEFAULT_ALPHABET_MASK = 0b11111;
+    public static final int RANDOMNESS_BYTE_LEN = 10;
 
     /**
      * The length of bytes of ULID
      */
-    private static final int ULID_BYTE_LEN = 0x1a;
+    private static final int ULID_BYTE_LEN = CANONICAL_STRING_LEN;
 
     /**
      * The least significant 64 bits increase overflow, 0xffffffffffffffffL + 1
@@ -69,9 +62,19 @@ public final class ULID implements Serializable, Comparable<ULID> {
     private static final long OVERFLOW = 0x0000000000000000L;
 
     /**
-     * Timestamp overflow flag, the 1st char of the input string must be between 0 and 7
+     * Big-endian long view of byte array
      */
-    private static final byte TIMESTAMP_OVERFLOW_FLAG = 0b11000;
+    private static final VarHandle LONG_ARRAY_HANDLE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    /**
+     * Big-endian short view of byte array
+     */
+    private static final VarHandle SHORT_ARRAY_HANDLE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+
+    /**
+     * Big-endian long view of byte buffer, regardless of the byte order of the buffer
+     */
+    private static final VarHandle LONG_BUFFER_HANDLE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
 
     // field
 
@@ -103,31 +106,43 @@ public final class ULID implements Serializable, Comparable<ULID> {
      * @param randomness randomness
      */
     ULID(long timestamp, byte[] randomness) {
-        if ((timestamp & TIMESTAMP_MASK) != 0) {
-            throw new IllegalArgumentException("Invalid timestamp");
-        }
+        checkTimestamp(timestamp);
         if (Objects.isNull(randomness) || RANDOMNESS_BYTE_LEN != randomness.length) {
             throw new IllegalArgumentException("Invalid randomness");
         }
-        long msb = 0;
+        long randomnessHigh = ((randomness[0] & 0xffL) << 8) | (randomness[1] & 0xffL);
         long lsb = 0;
-        byte[] bytes = new byte[16];
-        byte[] ts = new byte[6];
-        for (int i = 0; i < 6; i++) {
-            ts[i] = (byte) ((timestamp >>> (40 - i * 8)) & 0xff);
+        for (int i = 2; i < RANDOMNESS_BYTE_LEN; i++) {
+            lsb = (lsb << 8) | (randomness[i] & 0xff);
         }
-        System.arraycopy(ts, 0, bytes, 0, 6);
-        System.arraycopy(randomness, 0, bytes, 6, 10);
-        for (int i = 0; i < 8; i++) {
-            msb = (msb << 8) | (bytes[i] & 0xff);
-        }
-        for (int i = 8; i < 16; i++) {
-            lsb = (lsb << 8) | (bytes[i] & 0xff);
-        }
-        this.msb = msb;
+        this.msb = (timestamp << 16) | randomnessHigh;
         this.lsb = lsb;
     }
 
+    /**
+     * Creates a new ULID with timestamp and randomness as primitive values.
+     *
+     * @param timestamp      timestamp
+     * @param randomnessHigh the high 16 bits of randomness
+     * @param randomnessLow  the low 64 bits of randomness
+     */
+    ULID(long timestamp, short randomnessHigh, long randomnessLow) {
+        checkTimestamp(timestamp);
+        this.msb = (timestamp << 16) | (randomnessHigh & 0xffffL);
+        this.lsb = randomnessLow;
+    }
+
+    /**
+     * Check that the timestamp fits in the 48 bits timestamp component.
+     *
+     * @param timestamp timestamp
+     */
+    static void checkTimestamp(long timestamp) {
+        if ((timestamp & TIMESTAMP_MASK) != 0) {
+            throw new IllegalArgumentException("Invalid timestamp");
+        }
+    }
+
     /**
      * Get the most significant 64 bits of this ULID.
      */
@@ -151,6 +166,20 @@ public final class ULID implements Serializable, Comparable<ULID> {
         return this.msb >>> 16;
     }
 
+    /**
+     * Get the shard id held by the highest shard bits of the randomness component, see
+     * {@link ULIDFactory#shardedMonotonicFactory(int, int)}.
+     *
+     * @param shardBits The count of shard bits, between 1 and 16
+     * @return the shard id
+     */
+    public int getShard(int shardBits) {
+        if (shardBits <= 0 || shardBits > 16) {
+            throw new IllegalArgumentException("Invalid shard bits, it must be between 1 and 16");
+        }
+        return (int) ((this.msb & 0xffffL) >>> (16 - shardBits));
+    }
+
     /**
      * Get the randomness component of ULID
      *
@@ -158,13 +187,119 @@ public final class ULID implements Serializable, Comparable<ULID> {
      */
     public byte[] getRandomness() {
         byte[] randomness = new byte[RANDOMNESS_BYTE_LEN];
-        for (int i = 0; i < 2; i++) {
-            randomness[i] = (byte) ((this.msb >>> (8 - i * 8)) & 0xff);
+        SHORT_ARRAY_HANDLE.set(randomness, 0, (short) this.msb);
+        LONG_ARRAY_HANDLE.set(randomness, 2, this.lsb);
+        return randomness;
+    }
+
+    /**
+     * Get the 16 bytes binary form of this ULID, in big-endian byte order, so that the unsigned byte order of binary
+     * form matches the order of ULID.
+     *
+     * @return the binary form
+     */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[BINARY_BYTE_LEN];
+        LONG_ARRAY_HANDLE.set(bytes, 0, this.msb);
+        LONG_ARRAY_HANDLE.set(bytes, 8, this.lsb);
+        return bytes;
+    }
+
+    /**
+     * Write the 16 bytes binary form of this ULID into a byte array.
+     *
+     * @param dst    The destination byte array
+     * @param offset The offset to write at
+     * @return The offset after the last written byte
+     */
+    public int writeTo(byte[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, BINARY_BYTE_LEN, dst.length);
+        LONG_ARRAY_HANDLE.set(dst, offset, this.msb);
+        LONG_ARRAY_HANDLE.set(dst, offset + 8, this.lsb);
+        return offset + BINARY_BYTE_LEN;
+    }
+
+    /**
+     * Write the 16 bytes binary form of this ULID into a byte buffer at its current position in big-endian byte
+     * order, regardless of the byte order of the buffer. The position is advanced by 16.
+     *
+     * @param dst The destination byte buffer
+     * @return The destination byte buffer
+     */
+    public ByteBuffer writeTo(ByteBuffer dst) {
+        int position = dst.position();
+        if (dst.remaining() < BINARY_BYTE_LEN) {
+            throw new BufferOverflowException();
         }
-        for (int i = 2; i < 10; i++) {
-            randomness[i] = (byte) ((this.lsb >>> (80 - i * 8)) & 0xff);
+        LONG_BUFFER_HANDLE.set(dst, position, this.msb);
+        LONG_BUFFER_HANDLE.set(dst, position + 8, this.lsb);
+        dst.position(position + BINARY_BYTE_LEN);
+        return dst;
+    }
+
+    /**
+     * Create a new ULID from the 16 bytes binary form.
+     *
+     * @param src The binary form
+     * @return A new ULID with the specified value
+     */
+    public static ULID fromBytes(byte[] src) {
+        if (Objects.isNull(src) || BINARY_BYTE_LEN != src.length) {
+            throw new IllegalArgumentException("Invalid length of ULID binary form");
         }
-        return randomness;
+        return fromBytes(src, 0);
+    }
+
+    /**
+     * Create a new ULID from the 16 bytes binary form at the given offset of a byte array.
+     *
+     * @param src    The byte array
+     * @param offset The offset of the binary form
+     * @return A new ULID with the specified value
+     */
+    public static ULID fromBytes(byte[] src, int offset) {
+        Objects.checkFromIndexSize(offset, BINARY_BYTE_LEN, src.length);
+        return new ULID((long) LONG_ARRAY_HANDLE.get(src, offset), (long) LONG_ARRAY_HANDLE.get(src, offset + 8));
+    }
+
+    /**
+     * Create a new ULID from the 16 bytes binary form at the current position of a byte buffer in big-endian byte
+     * order, regardless of the byte order of the buffer. The position is advanced by 16.
+     *
+     * @param src The byte buffer
+     * @return A new ULID with the specified value
+     */
+    public static ULID readFrom(ByteBuffer src) {
+        int position = src.position();
+        if (src.remaining() < BINARY_BYTE_LEN) {
+            throw new BufferUnderflowException();
+        }
+        ULID ulid = new ULID((long) LONG_BUFFER_HANDLE.get(src, position), (long) LONG_BUFFER_HANDLE.get(src, position + 8));
+        src.position(position + BINARY_BYTE_LEN);
+        return ulid;
+    }
+
+    /**
+     * Write the 16 bytes binary form of this ULID to a data output in big-endian byte order.
+     *
+     * @param out The data output
+     * @throws IOException If an I/O error occurs
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeLong(this.msb);
+        out.writeLong(this.lsb);
+    }
+
+    /**
+     * Create a new ULID from the 16 bytes binary form read from a data input in big-endian byte order.
+     *
+     * @param in The data input
+     * @return A new ULID with the specified value
+     * @throws IOException If an I/O error occurs
+     */
+    public static ULID readFrom(DataInput in) throws IOException {
+        long msb = in.readLong();
+        return new ULID(msb, in.readLong());
     }
 
     /**
@@ -174,22 +309,96 @@ public final class ULID implements Serializable, Comparable<ULID> {
      * @return A new ULID with the specified value
      */
     public static ULID fromString(String value) {
-        if (Objects.isNull(value) || ULID_BYTE_LEN != value.length()) {
-            throw new IllegalArgumentException("Invalid length of ULID");
-        }
-        char[] chars = value.toCharArray();
-        if ((DECODING_TABLE[chars[0]] & TIMESTAMP_OVERFLOW_FLAG) != 0) {
-            throw new IllegalArgumentException("Time overflow");
-        }
-        for (char c : chars) {
-            if (DECODING_TABLE[c] == -1) {
-                throw new IllegalArgumentException("Invalid ULID canonical string for char '" + c + "'");
-            }
-        }
-        long timestamp = decodeComponent(0, 0x00, 0x09, 5, 50, DECODING_TABLE, chars);
-        long highRandomness = decodeComponent(0, 0x0a, 0x11, 5, 40, DECODING_TABLE, chars);
-        long lowRandomness = decodeComponent(0, 0x12, 0x19, 5, 40, DECODING_TABLE, chars);
-        return new ULID((timestamp << 16) | (highRandomness >>> 24), (highRandomness << 40) | (lowRandomness & 0xffffffffffL));
+        return ULIDCodec.CROCKFORD.decode(value);
+    }
+
+    /**
+     * Create a new ULID from the canonical string at the given offset of a char sequence, the chars are
+     * validated and decoded in a single pass without copying.
+     *
+     * @param value  The char sequence
+     * @param offset The offset of the canonical string
+     * @return A new ULID with the specified value
+     */
+    public static ULID decode(CharSequence value, int offset) {
+        return ULIDCodec.CROCKFORD.decode(value, offset);
+    }
+
+    /**
+     * Create a new ULID from the canonical string in ASCII at the given offset of a byte array, the bytes are
+     * validated and decoded in a single pass without copying.
+     *
+     * @param src    The byte array
+     * @param offset The offset of the canonical string
+     * @return A new ULID with the specified value
+     */
+    public static ULID decode(byte[] src, int offset) {
+        return ULIDCodec.CROCKFORD.decode(src, offset);
+    }
+
+    /**
+     * Create a new ULID from the canonical string in ASCII at the current position of a byte buffer, the bytes
+     * are validated and decoded in a single pass without copying. The position of the buffer is advanced by 26
+     * on success and left untouched on failure.
+     *
+     * @param src The byte buffer
+     * @return A new ULID with the specified value
+     */
+    public static ULID decode(ByteBuffer src) {
+        int position = src.position();
+        ULID ulid = ULIDCodec.CROCKFORD.decode(src, position);
+        src.position(position + ULID_BYTE_LEN);
+        return ulid;
+    }
+
+    /**
+     * Decode the canonical string in ASCII at the index of a byte buffer into primitive arrays without creating any
+     * object or throwing on invalid input, for bulk parsers.
+     *
+     * @param src   The byte buffer, it must hold 26 bytes from the index
+     * @param index The index of the canonical string
+     * @param msbs  The destination of the most significant 64 bits
+     * @param lsbs  The destination of the least significant 64 bits
+     * @param at    The index of destination
+     * @return true if the canonical string is valid, otherwise false and the destination is untouched
+     */
+    static boolean decode(ByteBuffer src, int index, long[] msbs, long[] lsbs, int at) {
+        return ULIDCodec.CROCKFORD.decode(src, index, msbs, lsbs, at);
+    }
+
+    /**
+     * Encode the canonical string of ULID in ASCII at the index of a byte buffer without creating any object, for
+     * bulk writers.
+     *
+     * @param msb   The most significant 64 bits of ULID
+     * @param lsb   The least significant 64 bits of ULID
+     * @param dst   The byte buffer, it must have room for 26 bytes from the index
+     * @param index The index to write at
+     */
+    static void encode(long msb, long lsb, ByteBuffer dst, int index) {
+        ULIDCodec.CROCKFORD.encode(msb, lsb, dst, index);
+    }
+
+    /**
+     * Get the least ULID of the timestamp, the lower bound of the ULIDs of the millisecond.
+     *
+     * @param timestamp The timestamp
+     * @return The ULID with the timestamp and all randomness bits 0
+     */
+    public static ULID min(long timestamp) {
+        checkTimestamp(timestamp);
+        return new ULID(timestamp << 16, 0L);
+    }
+
+    /**
+     * Get the greatest ULID of the timestamp, the upper bound of the ULIDs of the millisecond.
+     *
+     * @param timestamp The timestamp
+     * @return The ULID with the timestamp and all randomness bits 1
+     */
+    public static ULID max(long timestamp) {
+        checkTimestamp(timestamp);
+        return new ULID((timestamp << 16) | 0xffffL, -1L);
     }
 
     /**
@@ -226,53 +435,74 @@ public final class ULID implements Serializable, Comparable<ULID> {
     }
 
     /**
-     * Format ULID to canonical string with default alphabet. Use 'formatUnsignedLong0' from Long.formatUnsignedLong0()
+     * Encode this ULID as canonical string in ASCII into a byte array.
      *
-     * @param alphabet The Alphabet used to encode
-     * @return canonical string
+     * @param dst    The destination byte array
+     * @param offset The offset to write at
+     * @return The offset after the last written byte
      */
-    private String toCanonicalString(char[] alphabet) {
-        byte[] bytes = new byte[ULID_BYTE_LEN];
-        formatUnsignedLong0(this.lsb & 0xffffffffffL, 5, bytes, 18, 8, alphabet);
-        formatUnsignedLong0(((this.msb & 0xffffL) << 24) | (this.lsb >>> 40), 5, bytes, 10, 8, alphabet);
-        formatUnsignedLong0(this.msb >> 16, 5, bytes, 0, 10, alphabet);
-        return new String(bytes, StandardCharsets.US_ASCII);
+    public int encode(byte[] dst, int offset) {
+        return ULIDCodec.CROCKFORD.encode(this.msb, this.lsb, dst, offset);
     }
 
     /**
-     * Reference to java.lang.Long.formatUnsignedLong0()
+     * Encode this ULID as canonical string into a char array.
+     *
+     * @param dst    The destination char array
+     * @param offset The offset to write at
+     * @return The offset after the last written char
      */
-    private static void formatUnsignedLong0(long val, int shift, byte[] buf, int offset, int len, char[] alphabet) {
-        int charPos = offset + len;
-        long radix = 1L << shift;
-        long mask = radix - 1;
-        do {
-            buf[--charPos] = (byte) alphabet[(int) (val & mask)];
-            val >>>= shift;
-        } while (charPos > offset);
+    public int encode(char[] dst, int offset) {
+        return ULIDCodec.CROCKFORD.encode(this.msb, this.lsb, dst, offset);
     }
 
     /**
-     * Decode component from char buf.
+     * Encode this ULID as canonical string in ASCII into a byte buffer at its current position, the position is
+     * advanced by 26.
      *
-     * @return Decoded unsigned long value
+     * @param dst The destination byte buffer
+     * @return The destination byte buffer
      */
-    private static long decodeComponent(long val, int start, int end, int shirt, int ms, byte[] table, char[] buf) {
-        for (int i = start; i <= end; i++) {
-            val |= (long) table[buf[i]] << (ms = ms - shirt);
+    public ByteBuffer encode(ByteBuffer dst) {
+        int position = dst.position();
+        if (dst.remaining() < ULID_BYTE_LEN) {
+            throw new BufferOverflowException();
         }
-        return val;
+        encode(this.msb, this.lsb, dst, position);
+        dst.position(position + ULID_BYTE_LEN);
+        return dst;
+    }
+
+    /**
+     * Append this ULID as canonical string to a string builder.
+     *
+     * @param dst The destination string builder
+     * @return The destination string builder
+     */
+    public StringBuilder appendTo(StringBuilder dst) {
+        return ULIDCodec.CROCKFORD.appendTo(this.msb, this.lsb, dst);
+    }
+
+    /**
+     * Append this ULID as canonical string to an appendable.
+     *
+     * @param dst The destination appendable
+     * @return The destination appendable
+     * @throws IOException If an I/O error occurs
+     */
+    public Appendable appendTo(Appendable dst) throws IOException {
+        return ULIDCodec.CROCKFORD.appendTo(this.msb, this.lsb, dst);
     }
 
     @Override
     public String toString() {
-        return toCanonicalString(DEFAULT_ALPHABET);
+        return ULIDCodec.CROCKFORD.encode(this.msb, this.lsb);
     }
 
     @Override
     public int compareTo(ULID o) {
-        int mostSigBits = Long.compare(this.msb, o.msb);
-        return mostSigBits != 0 ? mostSigBits : Long.compare(this.lsb, o.lsb);
+        int mostSigBits = Long.compareUnsigned(this.msb, o.msb);
+        return mostSigBits != 0 ? mostSigBits : Long.compareUnsigned(this.lsb, o.lsb);
     }
 
     @Override
@@ -0,0 +1,384 @@
+package cn.vlts.ulid4j;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Growable array of ULID backed by two primitive arrays of the most significant 64 bits and the least
+ * significant 64 bits, costs 16 bytes per ULID. ULID instances are only created on access through
+ * {@link #get(int)} or {@link #iterator()}. This class is not thread-safe.
+ * @since 2026/10/16 13:10
+ */
+public final class ULIDArray implements Iterable<ULID> {
+
+    /**
+     * Default initial capacity
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The max capacity, some VMs reserve some header words in an array
+     */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * The count of ULIDs per chunk of data input and output
+     */
+    private static final int IO_CHUNK_ULIDS = 512;
+
+    private static final VarHandle LONG_ARRAY_HANDLE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private long[] msbs;
+
+    private long[] lsbs;
+
+    private int size;
+
+    /**
+     * Creates an empty array with default initial capacity.
+     */
+    public ULIDArray() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty array with the specified initial capacity.
+     *
+     * @param initialCapacity The initial capacity
+     */
+    public ULIDArray(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid initial capacity: " + initialCapacity);
+        }
+        this.msbs = new long[initialCapacity];
+        this.lsbs = new long[initialCapacity];
+    }
+
+    /**
+     * Append a ULID.
+     *
+     * @param ulid The ULID
+     */
+    public void add(ULID ulid) {
+        add(ulid.getMostSignificantBits(), ulid.getLeastSignificantBits());
+    }
+
+    /**
+     * Append a ULID in the form of the most significant 64 bits and the least significant 64 bits.
+     *
+     * @param msb The most significant 64 bits of ULID
+     * @param lsb The least significant 64 bits of ULID
+     */
+    public void add(long msb, long lsb) {
+        if (size == msbs.length) {
+            grow(size + 1);
+        }
+        msbs[size] = msb;
+        lsbs[size] = lsb;
+        size++;
+    }
+
+    /**
+     * Append a batch of ULIDs generated by the factory, see {@link ULIDFactory#fill(long[], long[], int, int)}.
+     *
+     * @param factory The ULID factory
+     * @param n       The count of ULIDs
+     */
+    public void addAll(ULIDFactory factory, int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Invalid count of ULID");
+        }
+        ensureCapacity(size + n);
+        factory.fill(msbs, lsbs, size, n);
+        size += n;
+    }
+
+    /**
+     * Get the ULID at the specified index, a new ULID instance is created.
+     *
+     * @param index The index
+     * @return The ULID
+     */
+    public ULID get(int index) {
+        Objects.checkIndex(index, size);
+        return new ULID(msbs[index], lsbs[index]);
+    }
+
+    /**
+     * Get the most significant 64 bits of the ULID at the specified index.
+     *
+     * @param index The index
+     * @return The most significant 64 bits
+     */
+    public long getMostSignificantBits(int index) {
+        Objects.checkIndex(index, size);
+        return msbs[index];
+    }
+
+    /**
+     * Get the least significant 64 bits of the ULID at the specified index.
+     *
+     * @param index The index
+     * @return The least significant 64 bits
+     */
+    public long getLeastSignificantBits(int index) {
+        Objects.checkIndex(index, size);
+        return lsbs[index];
+    }
+
+    /**
+     * Get the timestamp component of the ULID at the specified index.
+     *
+     * @param index The index
+     * @return The timestamp component
+     */
+    public long getTimestamp(int index) {
+        Objects.checkIndex(index, size);
+        return msbs[index] >>> 16;
+    }
+
+    /**
+     * Replace the ULID at the specified index.
+     *
+     * @param index The index
+     * @param ulid  The ULID
+     */
+    public void set(int index, ULID ulid) {
+        Objects.checkIndex(index, size);
+        msbs[index] = ulid.getMostSignificantBits();
+        lsbs[index] = ulid.getLeastSignificantBits();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all ULIDs, the capacity is retained.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Ensure the capacity is not less than the specified minimum capacity.
+     *
+     * @param minCapacity The minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > msbs.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Trim the capacity to the current size.
+     */
+    public void trimToSize() {
+        if (size < msbs.length) {
+            msbs = Arrays.copyOf(msbs, size);
+            lsbs = Arrays.copyOf(lsbs, size);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        int oldCapacity = msbs.length;
+        int newCapacity = oldCapacity + Math.max(oldCapacity >> 1, DEFAULT_CAPACITY);
+        if (newCapacity < minCapacity || newCapacity > MAX_CAPACITY) {
+            newCapacity = Math.max(minCapacity, Math.min(newCapacity, MAX_CAPACITY));
+        }
+        msbs = Arrays.copyOf(msbs, newCapacity);
+        lsbs = Arrays.copyOf(lsbs, newCapacity);
+    }
+
+    /**
+     * Sort the ULIDs in place in ascending order with radix sort, large arrays are sorted in parallel in the
+     * common fork-join pool, see {@link ULIDSorts}.
+     */
+    public void sort() {
+        ULIDSorts.sort(msbs, lsbs, 0, size);
+    }
+
+    /**
+     * Get the index of the first ULID whose timestamp component is not less than the specified timestamp, the
+     * array must be sorted.
+     *
+     * @param timestamp The timestamp
+     * @return The index of the first ULID not earlier than the timestamp, or size if there is no such ULID
+     */
+    public int lowerBound(long timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if ((msbs[mid] >>> 16) < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Get the index of the first ULID whose timestamp component is greater than the specified timestamp, the
+     * array must be sorted.
+     *
+     * @param timestamp The timestamp
+     * @return The index of the first ULID later than the timestamp, or size if there is no such ULID
+     */
+    public int upperBound(long timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if ((msbs[mid] >>> 16) <= timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Search the ULID with binary search, the array must be sorted.
+     *
+     * @param ulid The ULID to search
+     * @return The index of the ULID if it is contained, otherwise (-(insertion point) - 1)
+     */
+    public int binarySearch(ULID ulid) {
+        long msb = ulid.getMostSignificantBits();
+        long lsb = ulid.getLeastSignificantBits();
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(msbs[mid], lsbs[mid], msb, lsb);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Performs the operation on each ULID without creating ULID instances.
+     *
+     * @param consumer The consumer
+     */
+    public void forEach(ULIDConsumer consumer) {
+        for (int i = 0; i < size; i++) {
+            consumer.accept(msbs[i], lsbs[i]);
+        }
+    }
+
+    /**
+     * Performs the operation on each ULID whose timestamp component is between fromTimestamp (inclusive) and
+     * toTimestamp (inclusive) without creating ULID instances, the array must be sorted.
+     *
+     * @param fromTimestamp The lower bound of timestamp, inclusive
+     * @param toTimestamp   The upper bound of timestamp, inclusive
+     * @param consumer      The consumer
+     */
+    public void forEachInTimeRange(long fromTimestamp, long toTimestamp, ULIDConsumer consumer) {
+        for (int i = lowerBound(fromTimestamp), end = upperBound(toTimestamp); i < end; i++) {
+            consumer.accept(msbs[i], lsbs[i]);
+        }
+    }
+
+    /**
+     * Write the ULIDs to a data output as a count of int followed by the 16 bytes binary forms in big-endian byte
+     * order, the binary forms are written in chunks of 8 KiB.
+     *
+     * @param out The data output
+     * @throws IOException If an I/O error occurs
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(size);
+        byte[] chunk = new byte[Math.min(size, IO_CHUNK_ULIDS) * ULID.BINARY_BYTE_LEN];
+        for (int i = 0; i < size; ) {
+            int n = Math.min(size - i, IO_CHUNK_ULIDS);
+            for (int j = 0, offset = 0; j < n; j++, i++, offset += ULID.BINARY_BYTE_LEN) {
+                LONG_ARRAY_HANDLE.set(chunk, offset, msbs[i]);
+                LONG_ARRAY_HANDLE.set(chunk, offset + 8, lsbs[i]);
+            }
+            out.write(chunk, 0, n * ULID.BINARY_BYTE_LEN);
+        }
+    }
+
+    /**
+     * Read the ULIDs written by {@link #writeTo(DataOutput)} from a data input.
+     *
+     * @param in The data input
+     * @return A new array of the ULIDs
+     * @throws IOException If an I/O error occurs or the count is invalid
+     */
+    public static ULIDArray readFrom(DataInput in) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > MAX_CAPACITY) {
+            throw new IOException("Invalid count of ULID: " + count);
+        }
+        // grow with the input rather than trusting the count up front
+        ULIDArray array = new ULIDArray(Math.min(count, IO_CHUNK_ULIDS));
+        byte[] chunk = new byte[Math.min(count, IO_CHUNK_ULIDS) * ULID.BINARY_BYTE_LEN];
+        while (array.size < count) {
+            int n = Math.min(count - array.size, IO_CHUNK_ULIDS);
+            in.readFully(chunk, 0, n * ULID.BINARY_BYTE_LEN);
+            array.ensureCapacity(array.size + n);
+            for (int j = 0, offset = 0; j < n; j++, offset += ULID.BINARY_BYTE_LEN) {
+                array.msbs[array.size] = (long) LONG_ARRAY_HANDLE.get(chunk, offset);
+                array.lsbs[array.size++] = (long) LONG_ARRAY_HANDLE.get(chunk, offset + 8);
+            }
+        }
+        return array;
+    }
+
+    @Override
+    public Iterator<ULID> iterator() {
+        return new Iterator<ULID>() {
+
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public ULID next() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                int index = cursor++;
+                return new ULID(msbs[index], lsbs[index]);
+            }
+        };
+    }
+
+    static int compare(long msb1, long lsb1, long msb2, long lsb2) {
+        int mostSigBits = Long.compareUnsigned(msb1, msb2);
+        return mostSigBits != 0 ? mostSigBits : Long.compareUnsigned(lsb1, lsb2);
+    }
+}
@@ -0,0 +1,335 @@
+package cn.vlts.ulid4j;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Streaming reader of the delta-compressed blocks written by {@link ULIDBlockWriter} from a blocking
+ * channel, the blocks are decoded one at a time into primitive arrays. For random access over a buffer, e.g. a
+ * memory-mapped file, the static methods peek the count and the first timestamp of a block and skip it without
+ * decoding, so only the wanted blocks are decoded. This class is not thread-safe.
+ * <pre>{@code
+ * for (int i = 0; i < blockIndex; i++) {
+ *     ULIDBlockReader.skip(buffer);
+ * }
+ * int n = ULIDBlockReader.decode(buffer, msbs, lsbs, 0);
+ * }</pre>
+ * @since 2026/10/16 21:40
+ */
+public final class ULIDBlockReader implements Closeable {
+
+    /**
+     * The max length of frame accepted from channels
+     */
+    private static final int MAX_FRAME_LEN = ULIDBlockWriter.maxBlockLength(ULIDBlockWriter.MAX_BLOCK_SIZE);
+
+    private static final VarHandle INT_BUFFER_HANDLE = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final VarHandle SHORT_BUFFER_HANDLE = MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final VarHandle LONG_BUFFER_HANDLE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    /**
+     * The size of batch used by {@link #readAll(ULIDConsumer)}
+     */
+    private static final int BATCH_SIZE = 1024;
+
+    private final ReadableByteChannel channel;
+
+    private ByteBuffer buffer;
+
+    /**
+     * The decoded ULIDs of the current block
+     */
+    private long[] msbs = new long[0];
+
+    private long[] lsbs = new long[0];
+
+    private int count;
+
+    private int cursor;
+
+    private long blocks;
+
+    private boolean eof;
+
+    /**
+     * Creates a reader over a blocking channel.
+     *
+     * @param channel The channel
+     */
+    public ULIDBlockReader(ReadableByteChannel channel) {
+        this.channel = Objects.requireNonNull(channel);
+        this.buffer = ByteBuffer.allocate(1 << 16);
+        this.buffer.flip();
+    }
+
+    /**
+     * Get the count of ULIDs of the block at the current position of the buffer, the position is not changed.
+     *
+     * @param src The byte buffer
+     * @return The count of ULIDs
+     */
+    public static int count(ByteBuffer src) {
+        ByteBuffer header = src.duplicate();
+        header.position(src.position() + ULIDBlockWriter.FRAME_HEADER_LEN);
+        return (int) getVarLong(header);
+    }
+
+    /**
+     * Get the timestamp of the first ULID of the block at the current position of the buffer, the position is not
+     * changed.
+     *
+     * @param src The byte buffer
+     * @return The timestamp of the first ULID, or 0 if the block is empty
+     */
+    public static long firstTimestamp(ByteBuffer src) {
+        ByteBuffer header = src.duplicate();
+        header.position(src.position() + ULIDBlockWriter.FRAME_HEADER_LEN);
+        getVarLong(header);
+        return getVarLong(header);
+    }
+
+    /**
+     * Skip the block at the current position of the buffer without decoding, the position is advanced by the length
+     * of frame.
+     *
+     * @param src The byte buffer
+     * @return The count of ULIDs skipped
+     */
+    public static int skip(ByteBuffer src) {
+        int start = src.position();
+        int length = frameLength(src, start);
+        int count = count(src);
+        src.position(start + ULIDBlockWriter.FRAME_HEADER_LEN + length);
+        return count;
+    }
+
+    /**
+     * Decode the block at the current position of the buffer into primitive arrays, the position is advanced by the
+     * length of frame on success and left untouched on failure.
+     *
+     * @param src  The byte buffer
+     * @param msbs The destination of the most significant 64 bits
+     * @param lsbs The destination of the least significant 64 bits
+     * @param off  The index of destination, the destination must have room for {@link #count(ByteBuffer)} ULIDs
+     * @return The count of ULIDs decoded
+     * @throws BufferUnderflowException If the frame is not complete in the buffer
+     * @throws IllegalArgumentException If the block is not valid
+     */
+    public static int decode(ByteBuffer src, long[] msbs, long[] lsbs, int off) {
+        int start = src.position();
+        int end = start + ULIDBlockWriter.FRAME_HEADER_LEN + frameLength(src, start);
+        try {
+            src.position(start + ULIDBlockWriter.FRAME_HEADER_LEN);
+            long count = getVarLong(src);
+            if (count < 0 || count > ULIDBlockWriter.MAX_BLOCK_SIZE) {
+                throw invalidBlock();
+            }
+            Objects.checkFromIndexSize(off, (int) count, msbs.length);
+            Objects.checkFromIndexSize(off, (int) count, lsbs.length);
+            long timestamp = getVarLong(src);
+            if (Long.compareUnsigned(timestamp, ULID.MAX_TIMESTAMP) > 0) {
+                throw invalidBlock();
+            }
+            int i = off;
+            for (int last = off + (int) count; i < last; ) {
+                long delta = getVarLong(src);
+                if (Long.compareUnsigned(delta, ULID.MAX_TIMESTAMP - timestamp) > 0) {
+                    throw invalidBlock();
+                }
+                timestamp += delta;
+                long runLength = getVarLong(src) + 1;
+                int position = src.position();
+                if (runLength <= 0 || runLength > last - i
+                        || position + ULID.RANDOMNESS_BYTE_LEN > end) {
+                    throw invalidBlock();
+                }
+                long msb = (timestamp << 16) | ((short) SHORT_BUFFER_HANDLE.get(src, position) & 0xffffL);
+                long lsb = (long) LONG_BUFFER_HANDLE.get(src, position + 2);
+                src.position(position + ULID.RANDOMNESS_BYTE_LEN);
+                for (int runEnd = i + (int) runLength; i < runEnd; i++) {
+                    msbs[i] = msb;
+                    lsbs[i] = lsb;
+                    if (++lsb == 0L) {
+                        msb++;
+                    }
+                }
+            }
+            if (src.position() != end) {
+                throw invalidBlock();
+            }
+            return (int) count;
+        } catch (RuntimeException e) {
+            src.position(start);
+            throw e instanceof BufferUnderflowException ? invalidBlock() : e;
+        }
+    }
+
+    private static int frameLength(ByteBuffer src, int start) {
+        if (src.limit() - start < ULIDBlockWriter.FRAME_HEADER_LEN) {
+            throw new BufferUnderflowException();
+        }
+        int length = (int) INT_BUFFER_HANDLE.get(src, start);
+        if (length < 0 || length > src.limit() - start - ULIDBlockWriter.FRAME_HEADER_LEN) {
+            throw new BufferUnderflowException();
+        }
+        return length;
+    }
+
+    private static long getVarLong(ByteBuffer src) {
+        long value = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = src.get();
+            value |= (b & 0x7fL) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw invalidBlock();
+    }
+
+    private static IllegalArgumentException invalidBlock() {
+        return new IllegalArgumentException("Invalid ULID block");
+    }
+
+    /**
+     * Read the next ULIDs into primitive arrays.
+     *
+     * @param msbs The destination of the most significant 64 bits
+     * @param lsbs The destination of the least significant 64 bits
+     * @param off  The index of destination
+     * @param len  The max count of ULIDs to read
+     * @return The count of ULIDs read, or -1 if the end of input is reached
+     * @throws IOException If an I/O error occurs or the input is not valid
+     */
+    public int read(long[] msbs, long[] lsbs, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, msbs.length);
+        Objects.checkFromIndexSize(off, len, lsbs.length);
+        int n = 0;
+        while (n < len) {
+            if (cursor == count && !nextBlock()) {
+                break;
+            }
+            int k = Math.min(len - n, count - cursor);
+            System.arraycopy(this.msbs, cursor, msbs, off + n, k);
+            System.arraycopy(this.lsbs, cursor, lsbs, off + n, k);
+            cursor += k;
+            n += k;
+        }
+        return n == 0 && len > 0 ? -1 : n;
+    }
+
+    /**
+     * Read all remaining ULIDs into the consumer.
+     *
+     * @param consumer The consumer of ULIDs
+     * @return The count of ULIDs read
+     * @throws IOException If an I/O error occurs or the input is not valid
+     */
+    public long readAll(ULIDConsumer consumer) throws IOException {
+        long[] msbs = new long[BATCH_SIZE];
+        long[] lsbs = new long[BATCH_SIZE];
+        long total = 0;
+        int n;
+        while ((n = read(msbs, lsbs, 0, BATCH_SIZE)) >= 0) {
+            for (int i = 0; i < n; i++) {
+                consumer.accept(msbs[i], lsbs[i]);
+            }
+            total += n;
+        }
+        return total;
+    }
+
+    /**
+     * Get the count of blocks read so far.
+     *
+     * @return The count of blocks
+     */
+    public long getBlocks() {
+        return blocks;
+    }
+
+    /**
+     * Read and decode the next block.
+     *
+     * @return false if the end of input is reached
+     */
+    private boolean nextBlock() throws IOException {
+        do {
+            if (!fill(ULIDBlockWriter.FRAME_HEADER_LEN)) {
+                return false;
+            }
+            int length = (int) INT_BUFFER_HANDLE.get(buffer, buffer.position());
+            if (length < 0 || length > MAX_FRAME_LEN - ULIDBlockWriter.FRAME_HEADER_LEN) {
+                throw new IOException("Invalid ULID block");
+            }
+            if (!fill(ULIDBlockWriter.FRAME_HEADER_LEN + length)) {
+                throw new EOFException("Truncated ULID block");
+            }
+            try {
+                int n = count(buffer);
+                if (n > msbs.length) {
+                    msbs = new long[Math.min(n, ULIDBlockWriter.MAX_BLOCK_SIZE)];
+                    lsbs = new long[msbs.length];
+                }
+                count = decode(buffer, msbs, lsbs, 0);
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | BufferUnderflowException e) {
+                throw new IOException("Invalid ULID block", e);
+            }
+            cursor = 0;
+            blocks++;
+        } while (count == 0);
+        return true;
+    }
+
+    /**
+     * Make at least the given count of bytes available in the buffer.
+     *
+     * @return false if the end of input is reached before any byte of the frame, a partial frame at the end of input
+     * is reported as {@link EOFException}
+     */
+    private boolean fill(int required) throws IOException {
+        if (buffer.remaining() >= required) {
+            return true;
+        }
+        if (buffer.capacity() < required) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(required, buffer.capacity() << 1));
+            larger.put(buffer);
+            larger.flip();
+            buffer = larger;
+        }
+        buffer.compact();
+        try {
+            while (!eof && buffer.position() < required) {
+                if (channel.read(buffer) < 0) {
+                    eof = true;
+                }
+            }
+        } finally {
+            buffer.flip();
+        }
+        if (buffer.remaining() >= required) {
+            return true;
+        }
+        if (buffer.hasRemaining()) {
+            throw new EOFException("Truncated ULID block");
+        }
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
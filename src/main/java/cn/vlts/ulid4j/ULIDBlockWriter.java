@@ -0,0 +1,257 @@
+package cn.vlts.ulid4j;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Writer of sorted ULIDs as delta-compressed blocks to a blocking channel. Every block is a frame of
+ * <pre>
+ * frame  := length:int32 count:varint baseTimestamp:varint run*
+ * run    := timestampDelta:varint (runLength - 1):varint randomness:10 bytes
+ * </pre>
+ * A run is a sequence of ULIDs increasing by exactly 1, as created by a monotonic factory within one millisecond,
+ * so only its first ULID is stored. The timestamp delta of a run is relative to the previous run, or to the base
+ * timestamp for the first run, and the randomness is stored raw since it can not be compressed. The frame length
+ * is big-endian and counts the bytes after itself, so blocks can be skipped without decoding, see
+ * {@link ULIDBlockReader}. Unsigned varints are in LEB128. A block of random ULIDs costs about 12 bytes per ULID,
+ * a monotonic run costs about 12 bytes in total. This class is not thread-safe.
+ * @since 2026/10/16 21:40
+ */
+public final class ULIDBlockWriter implements Closeable, Flushable {
+
+    /**
+     * Default count of ULIDs per block
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 4096;
+
+    /**
+     * The max count of ULIDs per block
+     */
+    public static final int MAX_BLOCK_SIZE = 1 << 20;
+
+    static final int FRAME_HEADER_LEN = 4;
+
+    /**
+     * The max length of varint of 64 bits
+     */
+    private static final int MAX_VARINT_LEN = 10;
+
+    /**
+     * The max length of run: timestamp delta of 48 bits, run length of 31 bits and randomness
+     */
+    private static final int MAX_RUN_LEN = 7 + 5 + ULID.RANDOMNESS_BYTE_LEN;
+
+    private static final VarHandle INT_BUFFER_HANDLE = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final VarHandle SHORT_BUFFER_HANDLE = MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final VarHandle LONG_BUFFER_HANDLE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final WritableByteChannel channel;
+
+    private final long[] msbs;
+
+    private final long[] lsbs;
+
+    private final ByteBuffer buffer;
+
+    private int size;
+
+    /**
+     * Creates a writer over a blocking channel with default block size.
+     *
+     * @param channel The channel
+     */
+    public ULIDBlockWriter(WritableByteChannel channel) {
+        this(channel, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Creates a writer over a blocking channel.
+     *
+     * @param channel   The channel
+     * @param blockSize The count of ULIDs per block, between 1 and {@value #MAX_BLOCK_SIZE}
+     */
+    public ULIDBlockWriter(WritableByteChannel channel, int blockSize) {
+        if (blockSize <= 0 || blockSize > MAX_BLOCK_SIZE) {
+            throw new IllegalArgumentException("Invalid block size, it must be between 1 and " + MAX_BLOCK_SIZE);
+        }
+        this.channel = Objects.requireNonNull(channel);
+        this.msbs = new long[blockSize];
+        this.lsbs = new long[blockSize];
+        this.buffer = ByteBuffer.allocateDirect(maxBlockLength(blockSize));
+    }
+
+    /**
+     * Get the max length of the frame of a block in bytes.
+     *
+     * @param count The count of ULIDs of the block
+     * @return The max length of frame
+     */
+    public static int maxBlockLength(int count) {
+        if (count < 0 || count > MAX_BLOCK_SIZE) {
+            throw new IllegalArgumentException("Invalid count of ULID, it must be between 0 and " + MAX_BLOCK_SIZE);
+        }
+        return FRAME_HEADER_LEN + MAX_VARINT_LEN * 2 + count * MAX_RUN_LEN;
+    }
+
+    /**
+     * Encode sorted ULIDs of primitive arrays as one block into the byte buffer at its current position, the position
+     * is advanced by the length of frame.
+     *
+     * @param msbs The most significant 64 bits of ULIDs
+     * @param lsbs The least significant 64 bits of ULIDs
+     * @param off  The index of first ULID
+     * @param len  The count of ULIDs, not greater than {@value #MAX_BLOCK_SIZE}
+     * @param dst  The destination byte buffer
+     * @return The length of frame in bytes
+     * @throws BufferOverflowException If the remaining of buffer is less than {@link #maxBlockLength(int)}
+     */
+    public static int encode(long[] msbs, long[] lsbs, int off, int len, ByteBuffer dst) {
+        Objects.checkFromIndexSize(off, len, msbs.length);
+        Objects.checkFromIndexSize(off, len, lsbs.length);
+        if (dst.remaining() < maxBlockLength(len)) {
+            throw new BufferOverflowException();
+        }
+        int start = dst.position();
+        dst.position(start + FRAME_HEADER_LEN);
+        putVarLong(dst, len);
+        long lastTimestamp = len > 0 ? msbs[off] >>> 16 : 0L;
+        putVarLong(dst, lastTimestamp);
+        for (int i = off, end = off + len; i < end; ) {
+            long msb = msbs[i];
+            long lsb = lsbs[i];
+            if (i > off && ULIDArray.compare(msbs[i - 1], lsbs[i - 1], msb, lsb) > 0) {
+                dst.position(start);
+                throw new IllegalArgumentException("Invalid order of ULIDs, they must be sorted in ascending order");
+            }
+            int j = i + 1;
+            while (j < end && lsbs[j] == lsbs[j - 1] + 1 && msbs[j] == msbs[j - 1] + (lsbs[j] == 0L ? 1L : 0L)) {
+                j++;
+            }
+            long timestamp = msb >>> 16;
+            putVarLong(dst, timestamp - lastTimestamp);
+            putVarLong(dst, j - i - 1);
+            int position = dst.position();
+            SHORT_BUFFER_HANDLE.set(dst, position, (short) msb);
+            LONG_BUFFER_HANDLE.set(dst, position + 2, lsb);
+            dst.position(position + ULID.RANDOMNESS_BYTE_LEN);
+            lastTimestamp = timestamp;
+            i = j;
+        }
+        int length = dst.position() - start;
+        INT_BUFFER_HANDLE.set(dst, start, length - FRAME_HEADER_LEN);
+        return length;
+    }
+
+    private static void putVarLong(ByteBuffer dst, long value) {
+        while ((value & ~0x7fL) != 0L) {
+            dst.put((byte) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        dst.put((byte) value);
+    }
+
+    /**
+     * Write a ULID, it must not be less than the previous ULID of the current block.
+     *
+     * @param ulid The ULID
+     * @throws IOException If an I/O error occurs
+     */
+    public void write(ULID ulid) throws IOException {
+        write(ulid.getMostSignificantBits(), ulid.getLeastSignificantBits());
+    }
+
+    /**
+     * Write a ULID, it must not be less than the previous ULID of the current block.
+     *
+     * @param msb The most significant 64 bits of ULID
+     * @param lsb The least significant 64 bits of ULID
+     * @throws IOException If an I/O error occurs
+     */
+    public void write(long msb, long lsb) throws IOException {
+        if (size > 0 && ULIDArray.compare(msbs[size - 1], lsbs[size - 1], msb, lsb) > 0) {
+            throw new IllegalArgumentException("Invalid order of ULIDs, they must be sorted in ascending order");
+        }
+        msbs[size] = msb;
+        lsbs[size] = lsb;
+        if (++size == msbs.length) {
+            flushBlock();
+        }
+    }
+
+    /**
+     * Write sorted ULIDs of primitive arrays.
+     *
+     * @param msbs The most significant 64 bits of ULIDs
+     * @param lsbs The least significant 64 bits of ULIDs
+     * @param off  The index of first ULID
+     * @param len  The count of ULIDs
+     * @throws IOException If an I/O error occurs
+     */
+    public void write(long[] msbs, long[] lsbs, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, msbs.length);
+        Objects.checkFromIndexSize(off, len, lsbs.length);
+        for (int i = off, end = off + len; i < end; i++) {
+            write(msbs[i], lsbs[i]);
+        }
+    }
+
+    /**
+     * Write all ULIDs of the sorted array.
+     *
+     * @param array The ULID array
+     * @throws IOException If an I/O error occurs
+     */
+    public void write(ULIDArray array) throws IOException {
+        for (int i = 0, size = array.size(); i < size; i++) {
+            write(array.getMostSignificantBits(i), array.getLeastSignificantBits(i));
+        }
+    }
+
+    /**
+     * Write the buffered ULIDs as a block, which may be shorter than the block size, to the channel.
+     *
+     * @throws IOException If an I/O error occurs
+     */
+    @Override
+    public void flush() throws IOException {
+        if (size > 0) {
+            flushBlock();
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        buffer.clear();
+        encode(msbs, lsbs, 0, size, buffer);
+        size = 0;
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Flush the buffered ULIDs and close the channel.
+     *
+     * @throws IOException If an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
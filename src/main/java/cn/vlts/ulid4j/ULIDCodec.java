@@ -0,0 +1,560 @@
+package cn.vlts.ulid4j;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Table-driven codec of the canonical string of ULID. The 130 bits of the canonical string are
+ * processed as 13 groups of 10 bits, every group is encoded to two chars and decoded from two chars with a single
+ * table lookup, so both directions take 13 steps instead of 26. The groups are split into the 50 bits of the
+ * first 10 chars holding the timestamp and two parts of 40 bits, so that every part is encoded into whole longs of
+ * ASCII bytes. Decoding validates every char and checks the timestamp overflow just like
+ * {@link ULID#fromString(String)}.
+ * <p>
+ * Besides the Crockford's Base32 alphabet, lowercase and custom alphabets of 32 distinct ASCII chars are supported.
+ * Decoding accepts the chars of the alphabet, and for letters their other case if it is not in the alphabet.
+ * @since 2026/10/16 21:00
+ */
+public final class ULIDCodec {
+
+    private static final int GROUP_MASK = 0x3ff;
+
+    /**
+     * Timestamp overflow mask of the 50 bits encoded by the first 10 chars, the 1st char must be between 0 and 7
+     */
+    private static final long TIMESTAMP_OVERFLOW_MASK = ~ULID.MAX_TIMESTAMP;
+
+    private static final VarHandle LONG_ARRAY_HANDLE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final VarHandle SHORT_ARRAY_HANDLE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final VarHandle LONG_BUFFER_HANDLE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final VarHandle SHORT_BUFFER_HANDLE = MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+
+    /**
+     * Codec of Crockford's Base32 alphabet in uppercase, the canonical form of ULID
+     */
+    public static final ULIDCodec CROCKFORD = new ULIDCodec("0123456789ABCDEFGHJKMNPQRSTVWXYZ");
+
+    /**
+     * Codec of Crockford's Base32 alphabet in lowercase
+     */
+    public static final ULIDCodec CROCKFORD_LOWERCASE = new ULIDCodec("0123456789abcdefghjkmnpqrstvwxyz");
+
+    private final String alphabet;
+
+    /**
+     * 5 bits value of ASCII char, -1 if the char is invalid
+     */
+    private final byte[] decodingTable = new byte[128];
+
+    /**
+     * 10 bits value of two ASCII chars indexed by (c1 << 7 | c2), -1 if any char is invalid
+     */
+    private final short[] pairDecodingTable = new short[1 << 14];
+
+    /**
+     * Two ASCII chars of 10 bits value packed as (c1 << 8 | c2)
+     */
+    private final int[] pairEncodingTable = new int[GROUP_MASK + 1];
+
+    private ULIDCodec(String alphabet) {
+        this.alphabet = alphabet;
+        Arrays.fill(decodingTable, (byte) -1);
+        for (int i = 0; i < 32; i++) {
+            decodingTable[alphabet.charAt(i)] = (byte) i;
+        }
+        for (int i = 0; i < 32; i++) {
+            char c = alphabet.charAt(i);
+            char other = Character.isUpperCase(c) ? Character.toLowerCase(c) : Character.toUpperCase(c);
+            if (other < 128 && alphabet.indexOf(other) < 0) {
+                decodingTable[other] = (byte) i;
+            }
+        }
+        for (int c1 = 0; c1 < 128; c1++) {
+            for (int c2 = 0; c2 < 128; c2++) {
+                int v1 = decodingTable[c1];
+                int v2 = decodingTable[c2];
+                pairDecodingTable[(c1 << 7) | c2] = (short) (v1 < 0 || v2 < 0 ? -1 : (v1 << 5) | v2);
+            }
+        }
+        for (int v = 0; v <= GROUP_MASK; v++) {
+            char c1 = alphabet.charAt(v >>> 5);
+            char c2 = alphabet.charAt(v & 0x1f);
+            pairEncodingTable[v] = (c1 << 8) | c2;
+        }
+    }
+
+    /**
+     * Create a codec of custom alphabet.
+     *
+     * @param alphabet The alphabet of 32 distinct printable ASCII chars, the i-th char encodes the value i
+     * @return A new codec
+     */
+    public static ULIDCodec of(String alphabet) {
+        if (alphabet.length() != 32) {
+            throw new IllegalArgumentException("Invalid alphabet, it must have 32 chars");
+        }
+        for (int i = 0; i < 32; i++) {
+            char c = alphabet.charAt(i);
+            if (c <= 0x20 || c >= 0x7f || alphabet.indexOf(c) != i) {
+                throw new IllegalArgumentException("Invalid alphabet, it must have distinct printable ASCII chars");
+            }
+        }
+        return new ULIDCodec(alphabet);
+    }
+
+    /**
+     * Get the alphabet.
+     *
+     * @return The alphabet
+     */
+    public String getAlphabet() {
+        return alphabet;
+    }
+
+    /**
+     * Encode 4 groups of 10 bits as 8 ASCII bytes packed in big-endian.
+     */
+    private long word(long v) {
+        int[] table = pairEncodingTable;
+        return ((long) table[(int) (v >>> 30) & GROUP_MASK] << 48)
+                | ((long) table[(int) (v >>> 20) & GROUP_MASK] << 32)
+                | ((long) table[(int) (v >>> 10) & GROUP_MASK] << 16)
+                | table[(int) v & GROUP_MASK];
+    }
+
+    /**
+     * Encode ULID as string.
+     *
+     * @param ulid The ULID
+     * @return The encoded string
+     */
+    public String encode(ULID ulid) {
+        return encode(ulid.getMostSignificantBits(), ulid.getLeastSignificantBits());
+    }
+
+    /**
+     * Encode ULID as string.
+     *
+     * @param msb The most significant 64 bits of ULID
+     * @param lsb The least significant 64 bits of ULID
+     * @return The encoded string
+     */
+    public String encode(long msb, long lsb) {
+        byte[] bytes = new byte[ULID.CANONICAL_STRING_LEN];
+        encode0(msb, lsb, bytes, 0);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Encode ULID in ASCII into a byte array.
+     *
+     * @param msb    The most significant 64 bits of ULID
+     * @param lsb    The least significant 64 bits of ULID
+     * @param dst    The destination byte array
+     * @param offset The offset to write at
+     * @return The offset after the last written byte
+     */
+    public int encode(long msb, long lsb, byte[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, ULID.CANONICAL_STRING_LEN, dst.length);
+        encode0(msb, lsb, dst, offset);
+        return offset + ULID.CANONICAL_STRING_LEN;
+    }
+
+    private void encode0(long msb, long lsb, byte[] dst, int offset) {
+        long timestamp = msb >>> 16;
+        LONG_ARRAY_HANDLE.set(dst, offset, word(timestamp >>> 10));
+        SHORT_ARRAY_HANDLE.set(dst, offset + 8, (short) pairEncodingTable[(int) timestamp & GROUP_MASK]);
+        LONG_ARRAY_HANDLE.set(dst, offset + 10, word(middle(msb, lsb)));
+        LONG_ARRAY_HANDLE.set(dst, offset + 18, word(lsb));
+    }
+
+    /**
+     * Encode ULID into a char array.
+     *
+     * @param msb    The most significant 64 bits of ULID
+     * @param lsb    The least significant 64 bits of ULID
+     * @param dst    The destination char array
+     * @param offset The offset to write at
+     * @return The offset after the last written char
+     */
+    public int encode(long msb, long lsb, char[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, ULID.CANONICAL_STRING_LEN, dst.length);
+        encodeChars(msb >>> 16, 5, dst, offset);
+        encodeChars(middle(msb, lsb), 4, dst, offset + 10);
+        encodeChars(lsb, 4, dst, offset + 18);
+        return offset + ULID.CANONICAL_STRING_LEN;
+    }
+
+    private void encodeChars(long v, int groups, char[] dst, int offset) {
+        int[] table = pairEncodingTable;
+        for (int g = groups - 1; g >= 0; g--, offset += 2) {
+            int pair = table[(int) (v >>> (g * 10)) & GROUP_MASK];
+            dst[offset] = (char) (pair >>> 8);
+            dst[offset + 1] = (char) (pair & 0xff);
+        }
+    }
+
+    /**
+     * Encode ULID in ASCII into a byte buffer at the index, the position of the buffer is not changed.
+     *
+     * @param msb   The most significant 64 bits of ULID
+     * @param lsb   The least significant 64 bits of ULID
+     * @param dst   The destination byte buffer
+     * @param index The index to write at
+     */
+    public void encode(long msb, long lsb, ByteBuffer dst, int index) {
+        Objects.checkFromIndexSize(index, ULID.CANONICAL_STRING_LEN, dst.limit());
+        if (dst.hasArray()) {
+            encode0(msb, lsb, dst.array(), dst.arrayOffset() + index);
+            return;
+        }
+        long timestamp = msb >>> 16;
+        LONG_BUFFER_HANDLE.set(dst, index, word(timestamp >>> 10));
+        SHORT_BUFFER_HANDLE.set(dst, index + 8, (short) pairEncodingTable[(int) timestamp & GROUP_MASK]);
+        LONG_BUFFER_HANDLE.set(dst, index + 10, word(middle(msb, lsb)));
+        LONG_BUFFER_HANDLE.set(dst, index + 18, word(lsb));
+    }
+
+    /**
+     * Append ULID to a string builder.
+     *
+     * @param msb The most significant 64 bits of ULID
+     * @param lsb The least significant 64 bits of ULID
+     * @param dst The destination string builder
+     * @return The destination string builder
+     */
+    public StringBuilder appendTo(long msb, long lsb, StringBuilder dst) {
+        dst.ensureCapacity(dst.length() + ULID.CANONICAL_STRING_LEN);
+        appendChars(msb >>> 16, 5, dst);
+        appendChars(middle(msb, lsb), 4, dst);
+        appendChars(lsb, 4, dst);
+        return dst;
+    }
+
+    private void appendChars(long v, int groups, StringBuilder dst) {
+        int[] table = pairEncodingTable;
+        for (int g = groups - 1; g >= 0; g--) {
+            int pair = table[(int) (v >>> (g * 10)) & GROUP_MASK];
+            dst.append((char) (pair >>> 8)).append((char) (pair & 0xff));
+        }
+    }
+
+    /**
+     * Append ULID to an appendable char by char, without creating the canonical string.
+     *
+     * @param msb The most significant 64 bits of ULID
+     * @param lsb The least significant 64 bits of ULID
+     * @param dst The destination appendable
+     * @return The destination appendable
+     * @throws IOException If an I/O error occurs
+     */
+    public Appendable appendTo(long msb, long lsb, Appendable dst) throws IOException {
+        if (dst instanceof StringBuilder) {
+            return appendTo(msb, lsb, (StringBuilder) dst);
+        }
+        appendChars(msb >>> 16, 5, dst);
+        appendChars(middle(msb, lsb), 4, dst);
+        appendChars(lsb, 4, dst);
+        return dst;
+    }
+
+    private void appendChars(long v, int groups, Appendable dst) throws IOException {
+        int[] table = pairEncodingTable;
+        for (int g = groups - 1; g >= 0; g--) {
+            int pair = table[(int) (v >>> (g * 10)) & GROUP_MASK];
+            dst.append((char) (pair >>> 8)).append((char) (pair & 0xff));
+        }
+    }
+
+    /**
+     * Get the 40 bits encoded by the chars from 10 to 17, the low 16 bits of msb and the high 24 bits of lsb.
+     */
+    private static long middle(long msb, long lsb) {
+        return ((msb & 0xffffL) << 24) | (lsb >>> 40);
+    }
+
+    /**
+     * Decode ULID from a string of 26 chars.
+     *
+     * @param value The string
+     * @return A new ULID
+     */
+    public ULID decode(CharSequence value) {
+        if (Objects.isNull(value) || ULID.CANONICAL_STRING_LEN != value.length()) {
+            throw new IllegalArgumentException("Invalid length of ULID");
+        }
+        return decode(value, 0);
+    }
+
+    /**
+     * Decode ULID from the 26 chars at the offset of a char sequence.
+     *
+     * @param value  The char sequence
+     * @param offset The offset of the encoded ULID
+     * @return A new ULID
+     */
+    public ULID decode(CharSequence value, int offset) {
+        Objects.checkFromIndexSize(offset, ULID.CANONICAL_STRING_LEN, value.length());
+        long timestamp = decodePairs(value, offset, 5);
+        long middle = decodePairs(value, offset + 10, 4);
+        long low = decodePairs(value, offset + 18, 4);
+        if ((timestamp | middle | low) < 0) {
+            for (int i = offset; ; i++) {
+                if (decodeChar(value.charAt(i)) < 0) {
+                    throw invalidChar(value.charAt(i));
+                }
+            }
+        }
+        return create(timestamp, middle, low);
+    }
+
+    /**
+     * Decode ULID from the 26 ASCII bytes at the offset of a byte array.
+     *
+     * @param src    The byte array
+     * @param offset The offset of the encoded ULID
+     * @return A new ULID
+     */
+    public ULID decode(byte[] src, int offset) {
+        Objects.checkFromIndexSize(offset, ULID.CANONICAL_STRING_LEN, src.length);
+        long timestamp = decodePairs(src, offset, 5);
+        long middle = decodePairs(src, offset + 10, 4);
+        long low = decodePairs(src, offset + 18, 4);
+        if ((timestamp | middle | low) < 0) {
+            for (int i = offset; ; i++) {
+                if (decodeChar(src[i] & 0xff) < 0) {
+                    throw invalidChar((char) (src[i] & 0xff));
+                }
+            }
+        }
+        return create(timestamp, middle, low);
+    }
+
+    /**
+     * Decode ULID from the 26 ASCII bytes at the index of a byte buffer, the position of the buffer is not changed.
+     *
+     * @param src   The byte buffer
+     * @param index The index of the encoded ULID
+     * @return A new ULID
+     */
+    public ULID decode(ByteBuffer src, int index) {
+        Objects.checkFromIndexSize(index, ULID.CANONICAL_STRING_LEN, src.limit());
+        long timestamp = decodePairs(src, index, 5);
+        long middle = decodePairs(src, index + 10, 4);
+        long low = decodePairs(src, index + 18, 4);
+        if ((timestamp | middle | low) < 0) {
+            for (int i = index; ; i++) {
+                if (decodeChar(src.get(i) & 0xff) < 0) {
+                    throw invalidChar((char) (src.get(i) & 0xff));
+                }
+            }
+        }
+        return create(timestamp, middle, low);
+    }
+
+    /**
+     * Decode only the timestamp component from the first 10 chars of the ULID at the offset of a char sequence.
+     *
+     * @param value  The char sequence
+     * @param offset The offset of the encoded ULID
+     * @return The timestamp
+     */
+    public long decodeTimestamp(CharSequence value, int offset) {
+        Objects.checkFromIndexSize(offset, ULID.CANONICAL_STRING_LEN, value.length());
+        long timestamp = decodePairs(value, offset, 5);
+        if (timestamp < 0) {
+            for (int i = offset; ; i++) {
+                if (decodeChar(value.charAt(i)) < 0) {
+                    throw invalidChar(value.charAt(i));
+                }
+            }
+        }
+        if ((timestamp & TIMESTAMP_OVERFLOW_MASK) != 0) {
+            throw new IllegalArgumentException("Time overflow");
+        }
+        return timestamp;
+    }
+
+    /**
+     * Decode only the timestamp component from the first 10 chars of the ULID at the offset of a byte array.
+     *
+     * @param src    The byte array
+     * @param offset The offset of the encoded ULID
+     * @return The timestamp
+     */
+    public long decodeTimestamp(byte[] src, int offset) {
+        Objects.checkFromIndexSize(offset, ULID.CANONICAL_STRING_LEN, src.length);
+        long timestamp = decodePairs(src, offset, 5);
+        if (timestamp < 0) {
+            for (int i = offset; ; i++) {
+                if (decodeChar(src[i] & 0xff) < 0) {
+                    throw invalidChar((char) (src[i] & 0xff));
+                }
+            }
+        }
+        if ((timestamp & TIMESTAMP_OVERFLOW_MASK) != 0) {
+            throw new IllegalArgumentException("Time overflow");
+        }
+        return timestamp;
+    }
+
+    /**
+     * Compare two ULIDs encoded with this codec by their values, which is the lexicographic order of the encoded
+     * ULIDs for the Crockford alphabet. Only the first differing chars are decoded, the chars are compared
+     * ignoring case if the alphabet does.
+     *
+     * @param a       The 26 chars at the offset of a char sequence
+     * @param aOffset The offset of the first encoded ULID
+     * @param b       The 26 chars at the offset of another char sequence
+     * @param bOffset The offset of the second encoded ULID
+     * @return A negative integer, zero, or a positive integer as the first ULID is less than, equal to, or greater
+     * than the second ULID
+     */
+    public int compare(CharSequence a, int aOffset, CharSequence b, int bOffset) {
+        Objects.checkFromIndexSize(aOffset, ULID.CANONICAL_STRING_LEN, a.length());
+        Objects.checkFromIndexSize(bOffset, ULID.CANONICAL_STRING_LEN, b.length());
+        for (int i = 0; i < ULID.CANONICAL_STRING_LEN; i++) {
+            char ca = a.charAt(aOffset + i);
+            char cb = b.charAt(bOffset + i);
+            if (ca != cb) {
+                int va = decodeChar(ca);
+                int vb = decodeChar(cb);
+                if (va < 0) {
+                    throw invalidChar(ca);
+                }
+                if (vb < 0) {
+                    throw invalidChar(cb);
+                }
+                if (va != vb) {
+                    return va - vb;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Compare two ULIDs encoded with this codec in ASCII by their values, see
+     * {@link #compare(CharSequence, int, CharSequence, int)}.
+     *
+     * @param a       The 26 ASCII bytes at the offset of a byte array
+     * @param aOffset The offset of the first encoded ULID
+     * @param b       The 26 ASCII bytes at the offset of another byte array
+     * @param bOffset The offset of the second encoded ULID
+     * @return A negative integer, zero, or a positive integer as the first ULID is less than, equal to, or greater
+     * than the second ULID
+     */
+    public int compare(byte[] a, int aOffset, byte[] b, int bOffset) {
+        Objects.checkFromIndexSize(aOffset, ULID.CANONICAL_STRING_LEN, a.length);
+        Objects.checkFromIndexSize(bOffset, ULID.CANONICAL_STRING_LEN, b.length);
+        int i = Arrays.mismatch(a, aOffset, aOffset + ULID.CANONICAL_STRING_LEN, b, bOffset,
+                bOffset + ULID.CANONICAL_STRING_LEN);
+        for (; i >= 0 && i < ULID.CANONICAL_STRING_LEN; i++) {
+            int ca = a[aOffset + i] & 0xff;
+            int cb = b[bOffset + i] & 0xff;
+            if (ca != cb) {
+                int va = decodeChar(ca);
+                int vb = decodeChar(cb);
+                if (va < 0) {
+                    throw invalidChar((char) ca);
+                }
+                if (vb < 0) {
+                    throw invalidChar((char) cb);
+                }
+                if (va != vb) {
+                    return va - vb;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Decode ULID from the 26 ASCII bytes at the index of a byte buffer into primitive arrays without creating any
+     * object or throwing on invalid input, for bulk parsers.
+     *
+     * @return true if the input is valid, otherwise false and the destination is untouched
+     */
+    boolean decode(ByteBuffer src, int index, long[] msbs, long[] lsbs, int at) {
+        long timestamp = decodePairs(src, index, 5);
+        long middle = decodePairs(src, index + 10, 4);
+        long low = decodePairs(src, index + 18, 4);
+        if ((timestamp | middle | low) < 0 || (timestamp & TIMESTAMP_OVERFLOW_MASK) != 0) {
+            return false;
+        }
+        msbs[at] = (timestamp << 16) | (middle >>> 24);
+        lsbs[at] = (middle << 40) | low;
+        return true;
+    }
+
+    /**
+     * Check the timestamp overflow, the 1st char must be between 0 and 7, and create the ULID of decoded parts.
+     */
+    private static ULID create(long timestamp, long middle, long low) {
+        if ((timestamp & TIMESTAMP_OVERFLOW_MASK) != 0) {
+            throw new IllegalArgumentException("Time overflow");
+        }
+        return new ULID((timestamp << 16) | (middle >>> 24), (middle << 40) | low);
+    }
+
+    /**
+     * Decode pairs of chars, a negative value is returned if any char is invalid since the sign bit of -1 is kept
+     * by the following shifts.
+     */
+    private long decodePairs(CharSequence value, int offset, int pairs) {
+        long v = 0;
+        for (int end = offset + (pairs << 1); offset < end; offset += 2) {
+            v = (v << 10) | decodePair(value.charAt(offset), value.charAt(offset + 1));
+        }
+        return v;
+    }
+
+    private long decodePairs(byte[] src, int offset, int pairs) {
+        long v = 0;
+        for (int end = offset + (pairs << 1); offset < end; offset += 2) {
+            v = (v << 10) | decodePair(src[offset] & 0xff, src[offset + 1] & 0xff);
+        }
+        return v;
+    }
+
+    private long decodePairs(ByteBuffer src, int index, int pairs) {
+        long v = 0;
+        for (int end = index + (pairs << 1); index < end; index += 2) {
+            v = (v << 10) | decodePair(src.get(index) & 0xff, src.get(index + 1) & 0xff);
+        }
+        return v;
+    }
+
+    /**
+     * Decode two chars with the pair decoding table.
+     *
+     * @return The 10 bits value of the chars, or -1 if any char is invalid
+     */
+    private int decodePair(int c1, int c2) {
+        return (c1 | c2) < 128 ? pairDecodingTable[(c1 << 7) | c2] : -1;
+    }
+
+    /**
+     * Decode one char with the decoding table.
+     *
+     * @return The 5 bits value of the char, or -1 if the char is invalid
+     */
+    private int decodeChar(int c) {
+        return c < 128 ? decodingTable[c] : -1;
+    }
+
+    private static IllegalArgumentException invalidChar(char c) {
+        return new IllegalArgumentException("Invalid ULID canonical string for char '" + c + "'");
+    }
+}
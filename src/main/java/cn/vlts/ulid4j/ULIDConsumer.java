@@ -0,0 +1,20 @@
+package cn.vlts.ulid4j;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Consumer of ULID in the form of the most significant 64 bits and the least significant 64 bits,
+ * used to traverse ULIDs without creating ULID instances.
+ * @since 2026/10/16 13:10
+ */
+@FunctionalInterface
+public interface ULIDConsumer {
+
+    /**
+     * Performs this operation on the given ULID.
+     *
+     * @param msb The most significant 64 bits of ULID
+     * @param lsb The least significant 64 bits of ULID
+     */
+    void accept(long msb, long lsb);
+}
@@ -0,0 +1,215 @@
+package cn.vlts.ulid4j;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Comparisons and time range checks directly on the encoded forms of ULID, the canonical string in
+ * Crockford base32 and the 16 bytes big-endian binary form, without decoding whole ULIDs or creating any object.
+ * <ul>
+ * <li>The order of canonical strings and binary forms is the order of ULIDs, the comparisons stop at the first
+ * difference, the canonical strings are compared ignoring case.</li>
+ * <li>The timestamp is decoded from the first 10 chars of canonical string, or the first 6 bytes of binary form.</li>
+ * <li>The bounds of a timestamp are {@link ULID#min(long)} and {@link ULID#max(long)}.</li>
+ * </ul>
+ * @since 2026/10/17 01:40
+ */
+public final class ULIDEncodings {
+
+    private static final VarHandle LONG_ARRAY_HANDLE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final VarHandle LONG_BUFFER_HANDLE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    /**
+     * Comparator of canonical strings in the order of ULIDs
+     */
+    public static final Comparator<CharSequence> CANONICAL_ORDER = ULIDEncodings::compareEncoded;
+
+    /**
+     * Comparator of 16 bytes binary forms in the order of ULIDs
+     */
+    public static final Comparator<byte[]> BINARY_ORDER = (a, b) -> compareBinary(a, 0, b, 0);
+
+    private ULIDEncodings() {
+    }
+
+    /**
+     * Compare two canonical strings in the order of ULIDs.
+     *
+     * @param a The first canonical string
+     * @param b The second canonical string
+     * @return A negative integer, zero, or a positive integer as the first ULID is less than, equal to, or greater
+     * than the second ULID
+     */
+    public static int compareEncoded(CharSequence a, CharSequence b) {
+        checkLength(a);
+        checkLength(b);
+        return ULIDCodec.CROCKFORD.compare(a, 0, b, 0);
+    }
+
+    /**
+     * Compare two canonical strings in ASCII at the offsets of byte arrays in the order of ULIDs.
+     *
+     * @param a       The first byte array
+     * @param aOffset The offset of the first canonical string
+     * @param b       The second byte array
+     * @param bOffset The offset of the second canonical string
+     * @return A negative integer, zero, or a positive integer as the first ULID is less than, equal to, or greater
+     * than the second ULID
+     */
+    public static int compareEncoded(byte[] a, int aOffset, byte[] b, int bOffset) {
+        return ULIDCodec.CROCKFORD.compare(a, aOffset, b, bOffset);
+    }
+
+    /**
+     * Compare two binary forms at the offsets of byte arrays in the order of ULIDs.
+     *
+     * @param a       The first byte array
+     * @param aOffset The offset of the first binary form
+     * @param b       The second byte array
+     * @param bOffset The offset of the second binary form
+     * @return A negative integer, zero, or a positive integer as the first ULID is less than, equal to, or greater
+     * than the second ULID
+     */
+    public static int compareBinary(byte[] a, int aOffset, byte[] b, int bOffset) {
+        Objects.checkFromIndexSize(aOffset, ULID.BINARY_BYTE_LEN, a.length);
+        Objects.checkFromIndexSize(bOffset, ULID.BINARY_BYTE_LEN, b.length);
+        int result = Long.compareUnsigned((long) LONG_ARRAY_HANDLE.get(a, aOffset),
+                (long) LONG_ARRAY_HANDLE.get(b, bOffset));
+        return result != 0 ? result : Long.compareUnsigned((long) LONG_ARRAY_HANDLE.get(a, aOffset + 8),
+                (long) LONG_ARRAY_HANDLE.get(b, bOffset + 8));
+    }
+
+    /**
+     * Compare two binary forms at the indexes of byte buffers in the order of ULIDs, the positions of the buffers
+     * are not changed.
+     *
+     * @param a      The first byte buffer
+     * @param aIndex The index of the first binary form
+     * @param b      The second byte buffer
+     * @param bIndex The index of the second binary form
+     * @return A negative integer, zero, or a positive integer as the first ULID is less than, equal to, or greater
+     * than the second ULID
+     */
+    public static int compareBinary(ByteBuffer a, int aIndex, ByteBuffer b, int bIndex) {
+        Objects.checkFromIndexSize(aIndex, ULID.BINARY_BYTE_LEN, a.limit());
+        Objects.checkFromIndexSize(bIndex, ULID.BINARY_BYTE_LEN, b.limit());
+        int result = Long.compareUnsigned((long) LONG_BUFFER_HANDLE.get(a, aIndex),
+                (long) LONG_BUFFER_HANDLE.get(b, bIndex));
+        return result != 0 ? result : Long.compareUnsigned((long) LONG_BUFFER_HANDLE.get(a, aIndex + 8),
+                (long) LONG_BUFFER_HANDLE.get(b, bIndex + 8));
+    }
+
+    /**
+     * Decode the timestamp of canonical string from its first 10 chars.
+     *
+     * @param value The canonical string
+     * @return The timestamp
+     */
+    public static long timestampOf(CharSequence value) {
+        checkLength(value);
+        return ULIDCodec.CROCKFORD.decodeTimestamp(value, 0);
+    }
+
+    /**
+     * Decode the timestamp of the canonical string at the offset of a char sequence from its first 10 chars.
+     *
+     * @param value  The char sequence
+     * @param offset The offset of the canonical string
+     * @return The timestamp
+     */
+    public static long timestampOf(CharSequence value, int offset) {
+        return ULIDCodec.CROCKFORD.decodeTimestamp(value, offset);
+    }
+
+    /**
+     * Decode the timestamp of the canonical string in ASCII at the offset of a byte array from its first 10 chars.
+     *
+     * @param src    The byte array
+     * @param offset The offset of the canonical string
+     * @return The timestamp
+     */
+    public static long timestampOf(byte[] src, int offset) {
+        return ULIDCodec.CROCKFORD.decodeTimestamp(src, offset);
+    }
+
+    /**
+     * Read the timestamp of the binary form at the offset of a byte array from its first 6 bytes.
+     *
+     * @param src    The byte array
+     * @param offset The offset of the binary form
+     * @return The timestamp
+     */
+    public static long timestampOfBinary(byte[] src, int offset) {
+        Objects.checkFromIndexSize(offset, ULID.BINARY_BYTE_LEN, src.length);
+        return (long) LONG_ARRAY_HANDLE.get(src, offset) >>> 16;
+    }
+
+    /**
+     * Read the timestamp of the binary form at the index of a byte buffer from its first 6 bytes, the position of
+     * the buffer is not changed.
+     *
+     * @param src   The byte buffer
+     * @param index The index of the binary form
+     * @return The timestamp
+     */
+    public static long timestampOfBinary(ByteBuffer src, int index) {
+        Objects.checkFromIndexSize(index, ULID.BINARY_BYTE_LEN, src.limit());
+        return (long) LONG_BUFFER_HANDLE.get(src, index) >>> 16;
+    }
+
+    /**
+     * Check if the timestamp of canonical string is between the timestamps (both inclusive).
+     *
+     * @param value         The canonical string
+     * @param fromTimestamp The first timestamp
+     * @param toTimestamp   The last timestamp
+     * @return true if the timestamp is in the range
+     */
+    public static boolean isInTimeRange(CharSequence value, long fromTimestamp, long toTimestamp) {
+        long timestamp = timestampOf(value);
+        return timestamp >= fromTimestamp && timestamp <= toTimestamp;
+    }
+
+    /**
+     * Check if the timestamp of the binary form at the offset of a byte array is between the timestamps (both
+     * inclusive).
+     *
+     * @param src           The byte array
+     * @param offset        The offset of the binary form
+     * @param fromTimestamp The first timestamp
+     * @param toTimestamp   The last timestamp
+     * @return true if the timestamp is in the range
+     */
+    public static boolean isInTimeRangeBinary(byte[] src, int offset, long fromTimestamp, long toTimestamp) {
+        long timestamp = timestampOfBinary(src, offset);
+        return timestamp >= fromTimestamp && timestamp <= toTimestamp;
+    }
+
+    /**
+     * Check if the timestamp of the binary form at the index of a byte buffer is between the timestamps (both
+     * inclusive).
+     *
+     * @param src           The byte buffer
+     * @param index         The index of the binary form
+     * @param fromTimestamp The first timestamp
+     * @param toTimestamp   The last timestamp
+     * @return true if the timestamp is in the range
+     */
+    public static boolean isInTimeRangeBinary(ByteBuffer src, int index, long fromTimestamp, long toTimestamp) {
+        long timestamp = timestampOfBinary(src, index);
+        return timestamp >= fromTimestamp && timestamp <= toTimestamp;
+    }
+
+    private static void checkLength(CharSequence value) {
+        if (ULID.CANONICAL_STRING_LEN != value.length()) {
+            throw new IllegalArgumentException("Invalid length of ULID");
+        }
+    }
+}
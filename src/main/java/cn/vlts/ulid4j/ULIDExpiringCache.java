@@ -0,0 +1,352 @@
+package cn.vlts.ulid4j;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Cache keyed on ULID whose entries expire by the age of their keys, the age is taken from the
+ * timestamp component of the key, so no per-entry timestamp, timer or priority queue is kept. The entries are
+ * partitioned into time buckets by the timestamp of key, and the buckets are kept in a ring indexed by the bucket
+ * number. Since recent keys all fall into the same bucket, every bucket is split by the hash of key into segments,
+ * each a {@link ULIDObjectMap} guarded by its own monitor.
+ * <ul>
+ * <li>An entry expires once its key is older than the time to live, expired entries are never returned.</li>
+ * <li>A bucket is dropped as a whole in O(1) once all of its keys expired, by {@link #expire()}, which also runs
+ * at most once per bucket width on writes, or when its slot of the ring is reused.</li>
+ * <li>Keys already expired or ahead of the clock by more than the time to live are not cached.</li>
+ * </ul>
+ * Null values are not permitted.
+ * @since 2026/10/17 00:20
+ */
+public final class ULIDExpiringCache<V> {
+
+    /**
+     * Default count of buckets per time to live
+     */
+    public static final int DEFAULT_BUCKETS = 16;
+
+    /**
+     * The max count of buckets per time to live
+     */
+    private static final int MAX_BUCKETS = 1 << 20;
+
+    /**
+     * The count of segments per bucket, the power of two not less than twice the available processors
+     */
+    static final int SEGMENTS = Math.min(64,
+            Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1));
+
+    private final LongSupplier timestampSupplier;
+
+    private final long ttlMillis;
+
+    private final long bucketMillis;
+
+    private final AtomicReferenceArray<Bucket<V>> buckets;
+
+    private final int mask;
+
+    /**
+     * The bucket number of the clock at the last expiration
+     */
+    private volatile long lastExpired = Long.MIN_VALUE;
+
+    /**
+     * Creates a cache with the shared {@link TickingClock} and default count of buckets, the clock is read on every
+     * access, so a cached clock is used instead of {@link System#currentTimeMillis()}.
+     *
+     * @param ttl  The time to live, not less than 1 millisecond
+     * @param unit The unit of time to live
+     */
+    public ULIDExpiringCache(long ttl, TimeUnit unit) {
+        this(TickingClock.shared(), ttl, Math.max(1L, unit.toMillis(ttl) / DEFAULT_BUCKETS),
+                unit, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param timestampSupplier The timestamp supplier, it is read on every access
+     * @param ttl               The time to live, not less than 1 millisecond
+     * @param bucketWidth       The time span of a bucket, between 1 millisecond and the time to live. A narrower
+     *                          bucket releases memory closer to the expiration, a wider bucket keeps fewer maps
+     * @param ttlUnit           The unit of time to live
+     * @param bucketWidthUnit   The unit of bucket width
+     */
+    public ULIDExpiringCache(LongSupplier timestampSupplier,
+                             long ttl,
+                             long bucketWidth,
+                             TimeUnit ttlUnit,
+                             TimeUnit bucketWidthUnit) {
+        long ttlMillis = ttlUnit.toMillis(ttl);
+        long bucketMillis = bucketWidthUnit.toMillis(bucketWidth);
+        if (ttlMillis < 1L || ttlMillis > ULID.MAX_TIMESTAMP) {
+            throw new IllegalArgumentException("Invalid time to live");
+        }
+        if (bucketMillis < 1L || bucketMillis > ttlMillis || ttlMillis / bucketMillis > MAX_BUCKETS) {
+            throw new IllegalArgumentException("Invalid bucket width, it must be between 1 millisecond and the " +
+                    "time to live, and at least 1 / 2 ^ 20 of the time to live");
+        }
+        this.timestampSupplier = Objects.requireNonNull(timestampSupplier);
+        this.ttlMillis = ttlMillis;
+        this.bucketMillis = bucketMillis;
+        // the live buckets span the time to live behind and ahead of the clock, plus the partial buckets at both ends
+        int span = (int) ((ttlMillis + bucketMillis - 1) / bucketMillis) * 2 + 2;
+        int length = Integer.highestOneBit(span - 1) << 1;
+        this.buckets = new AtomicReferenceArray<>(length);
+        this.mask = length - 1;
+    }
+
+    /**
+     * Associate the value with the key, unless the key is expired or too far ahead of the clock.
+     *
+     * @param key   The key
+     * @param value The value, not null
+     * @return The previous value, or null if there was no live mapping for the key
+     */
+    public V put(ULID key, V value) {
+        return put(key.getMostSignificantBits(), key.getLeastSignificantBits(), value);
+    }
+
+    /**
+     * Associate the value with the key, unless the key is expired or too far ahead of the clock.
+     *
+     * @param msb   The most significant 64 bits of key
+     * @param lsb   The least significant 64 bits of key
+     * @param value The value, not null
+     * @return The previous value, or null if there was no live mapping for the key
+     */
+    public V put(long msb, long lsb, V value) {
+        Objects.requireNonNull(value, "value");
+        Bucket<V> bucket = acquire(msb);
+        if (bucket == null) {
+            return null;
+        }
+        ULIDObjectMap<V> map = bucket.segment(msb, lsb);
+        synchronized (map) {
+            return map.put(msb, lsb, value);
+        }
+    }
+
+    /**
+     * Get the live value associated with the key, or compute and associate the value if there is none. The function
+     * is called while holding the lock of the segment, it must not access this cache.
+     *
+     * @param msb             The most significant 64 bits of key
+     * @param lsb             The least significant 64 bits of key
+     * @param mappingFunction The function to compute the value from the key, returns null to skip the mapping
+     * @return The current value, or the computed value without caching it if the key is expired or too far ahead of
+     * the clock
+     */
+    public V computeIfAbsent(long msb, long lsb, Function<ULID, ? extends V> mappingFunction) {
+        Bucket<V> bucket = acquire(msb);
+        if (bucket == null) {
+            return mappingFunction.apply(new ULID(msb, lsb));
+        }
+        ULIDObjectMap<V> map = bucket.segment(msb, lsb);
+        synchronized (map) {
+            return map.computeIfAbsent(msb, lsb, mappingFunction);
+        }
+    }
+
+    /**
+     * Get the live value associated with the key.
+     *
+     * @param key The key
+     * @return The value, or null if there is no live mapping for the key
+     */
+    public V get(ULID key) {
+        return get(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    /**
+     * Get the live value associated with the key.
+     *
+     * @param msb The most significant 64 bits of key
+     * @param lsb The least significant 64 bits of key
+     * @return The value, or null if there is no live mapping for the key
+     */
+    public V get(long msb, long lsb) {
+        Bucket<V> bucket = bucketOf(msb, timestampSupplier.getAsLong());
+        if (bucket == null) {
+            return null;
+        }
+        ULIDObjectMap<V> map = bucket.segment(msb, lsb);
+        synchronized (map) {
+            return map.get(msb, lsb);
+        }
+    }
+
+    /**
+     * Check if there is a live mapping for the key.
+     *
+     * @param key The key
+     * @return true if the key is mapped and not expired
+     */
+    public boolean containsKey(ULID key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Check if there is a live mapping for the key.
+     *
+     * @param msb The most significant 64 bits of key
+     * @param lsb The least significant 64 bits of key
+     * @return true if the key is mapped and not expired
+     */
+    public boolean containsKey(long msb, long lsb) {
+        return get(msb, lsb) != null;
+    }
+
+    /**
+     * Remove the mapping of the key.
+     *
+     * @param key The key
+     * @return The previous value, or null if there was no live mapping for the key
+     */
+    public V remove(ULID key) {
+        return remove(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    /**
+     * Remove the mapping of the key.
+     *
+     * @param msb The most significant 64 bits of key
+     * @param lsb The least significant 64 bits of key
+     * @return The previous value, or null if there was no live mapping for the key
+     */
+    public V remove(long msb, long lsb) {
+        Bucket<V> bucket = bucketOf(msb, timestampSupplier.getAsLong());
+        if (bucket == null) {
+            return null;
+        }
+        ULIDObjectMap<V> map = bucket.segment(msb, lsb);
+        synchronized (map) {
+            return map.remove(msb, lsb);
+        }
+    }
+
+    /**
+     * Drop the buckets whose keys are all expired.
+     *
+     * @return The count of dropped buckets
+     */
+    public int expire() {
+        long now = timestampSupplier.getAsLong();
+        lastExpired = Math.floorDiv(now, bucketMillis);
+        int count = 0;
+        for (int i = 0; i <= mask; i++) {
+            Bucket<V> bucket = buckets.get(i);
+            if (bucket != null && isExpired(bucket.number, now) && buckets.compareAndSet(i, bucket, null)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the count of entries including the expired entries of buckets not dropped yet, it is only an estimate
+     * under concurrent access.
+     *
+     * @return The count of entries
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i <= mask; i++) {
+            Bucket<V> bucket = buckets.get(i);
+            if (bucket != null) {
+                for (ULIDObjectMap<V> map : bucket.segments) {
+                    synchronized (map) {
+                        size += map.size();
+                    }
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Remove all entries.
+     */
+    public void clear() {
+        for (int i = 0; i <= mask; i++) {
+            buckets.set(i, null);
+        }
+    }
+
+    /**
+     * Get the live bucket of the key, or null if the key is expired, too far ahead of the clock or not cached.
+     */
+    private Bucket<V> bucketOf(long msb, long now) {
+        long timestamp = msb >>> 16;
+        if (timestamp < now - ttlMillis || timestamp > now + ttlMillis) {
+            return null;
+        }
+        long number = timestamp / bucketMillis;
+        Bucket<V> bucket = buckets.get((int) number & mask);
+        return bucket != null && bucket.number == number ? bucket : null;
+    }
+
+    /**
+     * Get or create the bucket of the key for writing, or null if the key is expired or too far ahead of the clock.
+     */
+    private Bucket<V> acquire(long msb) {
+        long now = timestampSupplier.getAsLong();
+        if (Math.floorDiv(now, bucketMillis) > lastExpired) {
+            expire();
+        }
+        long timestamp = msb >>> 16;
+        if (timestamp < now - ttlMillis || timestamp > now + ttlMillis) {
+            return null;
+        }
+        long number = timestamp / bucketMillis;
+        int index = (int) number & mask;
+        for (; ; ) {
+            Bucket<V> bucket = buckets.get(index);
+            if (bucket != null && bucket.number == number) {
+                return bucket;
+            }
+            // the ring spans all live buckets, so a bucket with a different number in the slot is expired
+            Bucket<V> created = new Bucket<>(number);
+            if (buckets.compareAndSet(index, bucket, created)) {
+                return created;
+            }
+        }
+    }
+
+    private boolean isExpired(long number, long now) {
+        // the last millisecond of the bucket is older than the time to live
+        return (number + 1) * bucketMillis - 1 < now - ttlMillis;
+    }
+
+    /**
+     * Bucket of entries whose keys fall into the same time span, split into segments.
+     */
+    private static final class Bucket<V> {
+
+        final long number;
+
+        final ULIDObjectMap<V>[] segments;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Bucket(long number) {
+            this.number = number;
+            this.segments = new ULIDObjectMap[SEGMENTS];
+            for (int i = 0; i < SEGMENTS; i++) {
+                segments[i] = new ULIDObjectMap<>();
+            }
+        }
+
+        /**
+         * Select the segment by the high bits of hash, the maps probe by the low bits.
+         */
+        ULIDObjectMap<V> segment(long msb, long lsb) {
+            return segments[(AbstractULIDHashTable.mix(msb, lsb) >>> 26) & (SEGMENTS - 1)];
+        }
+    }
+}
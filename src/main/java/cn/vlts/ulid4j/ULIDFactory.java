@@ -1,8 +1,13 @@
 package cn.vlts.ulid4j;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.IntFunction;
 import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * @author throwable
@@ -30,6 +35,94 @@ public interface ULIDFactory {
         throw new UnsupportedOperationException("ulid with timestamp");
     }
 
+    /**
+     * Create a batch of new ULID instances.
+     *
+     * @param n The count of ULID instances
+     * @return A list of new ULID instances, in the order of generation
+     */
+    default List<ULID> ulids(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Invalid count of ULID");
+        }
+        ULID[] ulids = new ULID[n];
+        for (int i = 0; i < n; i++) {
+            ulids[i] = ulid();
+        }
+        return Arrays.asList(ulids);
+    }
+
+    /**
+     * Generate a batch of ULIDs into primitive arrays, the most significant 64 bits and the least significant
+     * 64 bits of the i-th ULID are stored to msbs[off + i] and lsbs[off + i].
+     *
+     * @param msbs The array of the most significant 64 bits
+     * @param lsbs The array of the least significant 64 bits
+     * @param off  The start offset of arrays
+     * @param n    The count of ULIDs
+     */
+    default void fill(long[] msbs, long[] lsbs, int off, int n) {
+        Objects.checkFromIndexSize(off, n, msbs.length);
+        Objects.checkFromIndexSize(off, n, lsbs.length);
+        for (int i = off, end = off + n; i < end; i++) {
+            ULID ulid = ulid();
+            msbs[i] = ulid.getMostSignificantBits();
+            lsbs[i] = ulid.getLeastSignificantBits();
+        }
+    }
+
+    /**
+     * Create a spliterator of n new ULIDs. Monotonic factories reserve a contiguous block of n ULIDs at once, the
+     * spliterator is ordered and sorted, and every split covers a non-overlapping sub-range of the block.
+     *
+     * @param n The count of ULIDs
+     * @return A spliterator of new ULIDs
+     */
+    default ULIDSpliterator spliterator(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Invalid count of ULID");
+        }
+        return new ULIDSpliterator.GeneratingSpliterator(this, n);
+    }
+
+    /**
+     * Create a sized stream of n new ULIDs, see {@link #spliterator(long)}.
+     *
+     * @param n The count of ULIDs
+     * @return A sequential stream of new ULIDs, which can be turned parallel
+     */
+    default Stream<ULID> stream(long n) {
+        return StreamSupport.stream(spliterator(n), false);
+    }
+
+    /**
+     * Create a spliterator of new ULIDs over a timestamp range, every millisecond gets a fixed count of ULIDs, the
+     * first one with fresh randomness and the others incremented from it. The spliterator is ordered and sorted,
+     * every split covers non-overlapping milliseconds. The monotonic factories do not support it, since the ULIDs
+     * would not be ordered against the ULIDs created by {@link #ulid()}.
+     *
+     * @param fromTimestamp  The first timestamp, inclusive
+     * @param toTimestamp    The last timestamp, exclusive
+     * @param perMillisecond The count of ULIDs per millisecond
+     * @return A spliterator of new ULIDs
+     * @throws UnsupportedOperationException If the factory does not support timestamp ranges
+     */
+    default ULIDSpliterator spliterator(long fromTimestamp, long toTimestamp, int perMillisecond) {
+        throw new UnsupportedOperationException("spliterator over timestamp range");
+    }
+
+    /**
+     * Create a sized stream of new ULIDs over a timestamp range, see {@link #spliterator(long, long, int)}.
+     *
+     * @param fromTimestamp  The first timestamp, inclusive
+     * @param toTimestamp    The last timestamp, exclusive
+     * @param perMillisecond The count of ULIDs per millisecond
+     * @return A sequential stream of new ULIDs, which can be turned parallel
+     */
+    default Stream<ULID> stream(long fromTimestamp, long toTimestamp, int perMillisecond) {
+        return StreamSupport.stream(spliterator(fromTimestamp, toTimestamp, perMillisecond), false);
+    }
+
     /**
      * Default implementation for timestamp supplier.
      */
@@ -44,13 +137,29 @@ public interface ULIDFactory {
         return bytes;
     };
 
+    /**
+     * Default implementation for randomness source, backed by {@link ThreadLocalRandom}.
+     */
+    RandomnessSource DEFAULT_RANDOMNESS_SOURCE = new RandomnessSource() {
+
+        @Override
+        public long nextLong() {
+            return ThreadLocalRandom.current().nextLong();
+        }
+
+        @Override
+        public short nextShort() {
+            return (short) ThreadLocalRandom.current().nextInt();
+        }
+    };
+
     /**
      * Create a new default ULID factory instance.
      *
      * @return A new default ULID factory
      */
     static ULIDFactory factory() {
-        return new DefaultULIDFactory(DEFAULT_TIMESTAMP_SUPPLIER, DEFAULT_RANDOMNESS_FUNCTION);
+        return new DefaultULIDFactory(DEFAULT_TIMESTAMP_SUPPLIER, DEFAULT_RANDOMNESS_SOURCE);
     }
 
     /**
@@ -60,7 +169,7 @@ public interface ULIDFactory {
      * @return A new monotonic ULID factory
      */
     static ULIDFactory factory(LongSupplier timestampSupplier) {
-        return new DefaultULIDFactory(timestampSupplier, DEFAULT_RANDOMNESS_FUNCTION);
+        return new DefaultULIDFactory(timestampSupplier, DEFAULT_RANDOMNESS_SOURCE);
     }
 
     /**
@@ -75,13 +184,39 @@ public interface ULIDFactory {
         return new DefaultULIDFactory(timestampSupplier, randomnessFunction);
     }
 
+    /**
+     * Create a new default ULID factory instance with timestamp supplier and randomness source.
+     *
+     * @param timestampSupplier The timestamp supplier
+     * @param randomnessSource  The randomness source
+     * @return A new default ULID factory
+     */
+    static ULIDFactory factory(LongSupplier timestampSupplier,
+                               RandomnessSource randomnessSource) {
+        return new DefaultULIDFactory(timestampSupplier, randomnessSource);
+    }
+
+    /**
+     * Create a new default ULID factory instance with timestamp supplier, randomness source and metrics.
+     *
+     * @param timestampSupplier The timestamp supplier
+     * @param randomnessSource  The randomness source
+     * @param metrics           The metrics to record into
+     * @return A new default ULID factory
+     */
+    static ULIDFactory factory(LongSupplier timestampSupplier,
+                               RandomnessSource randomnessSource,
+                               ULIDFactoryMetrics metrics) {
+        return new DefaultULIDFactory(timestampSupplier, randomnessSource, Objects.requireNonNull(metrics));
+    }
+
     /**
      * Create a new monotonic ULID factory instance.
      *
      * @return A new monotonic ULID factory
      */
     static ULIDFactory monotonicFactory() {
-        return new MonotonicULIDFactory(DEFAULT_TIMESTAMP_SUPPLIER, DEFAULT_RANDOMNESS_FUNCTION);
+        return new MonotonicULIDFactory(DEFAULT_TIMESTAMP_SUPPLIER, DEFAULT_RANDOMNESS_SOURCE);
     }
 
     /**
@@ -91,7 +226,7 @@ public interface ULIDFactory {
      * @return A new monotonic ULID factory
      */
     static ULIDFactory monotonicFactory(LongSupplier timestampSupplier) {
-        return new MonotonicULIDFactory(timestampSupplier, DEFAULT_RANDOMNESS_FUNCTION);
+        return new MonotonicULIDFactory(timestampSupplier, DEFAULT_RANDOMNESS_SOURCE);
     }
 
     /**
@@ -105,4 +240,222 @@ public interface ULIDFactory {
                                         IntFunction<byte[]> randomnessFunction) {
         return new MonotonicULIDFactory(timestampSupplier, randomnessFunction);
     }
+
+    /**
+     * Create a new monotonic ULID factory instance with timestamp supplier and randomness source.
+     *
+     * @param timestampSupplier The timestamp supplier
+     * @param randomnessSource  The randomness source
+     * @return A new monotonic ULID factory
+     */
+    static ULIDFactory monotonicFactory(LongSupplier timestampSupplier,
+                                        RandomnessSource randomnessSource) {
+        return new MonotonicULIDFactory(timestampSupplier, randomnessSource);
+    }
+
+    /**
+     * Create a new monotonic ULID factory instance with timestamp supplier, randomness source and metrics.
+     *
+     * @param timestampSupplier The timestamp supplier
+     * @param randomnessSource  The randomness source
+     * @param metrics           The metrics to record into
+     * @return A new monotonic ULID factory
+     */
+    static ULIDFactory monotonicFactory(LongSupplier timestampSupplier,
+                                        RandomnessSource randomnessSource,
+                                        ULIDFactoryMetrics metrics) {
+        return new MonotonicULIDFactory(timestampSupplier, randomnessSource, Objects.requireNonNull(metrics));
+    }
+
+    /**
+     * Create a new striped monotonic ULID factory instance.
+     *
+     * @return A new striped monotonic ULID factory
+     * @see StripedMonotonicULIDFactory
+     */
+    static ULIDFactory stripedMonotonicFactory() {
+        return new StripedMonotonicULIDFactory(DEFAULT_TIMESTAMP_SUPPLIER, DEFAULT_RANDOMNESS_SOURCE,
+                StripedMonotonicULIDFactory.DEFAULT_STRIPES);
+    }
+
+    /**
+     * Create a new striped monotonic ULID factory instance with timestamp supplier.
+     *
+     * @param timestampSupplier The timestamp supplier
+     * @return A new striped monotonic ULID factory
+     * @see StripedMonotonicULIDFactory
+     */
+    static ULIDFactory stripedMonotonicFactory(LongSupplier timestampSupplier) {
+        return new StripedMonotonicULIDFactory(timestampSupplier, DEFAULT_RANDOMNESS_SOURCE,
+                StripedMonotonicULIDFactory.DEFAULT_STRIPES);
+    }
+
+    /**
+     * Create a new striped monotonic ULID factory instance with timestamp supplier and randomness function.
+     *
+     * @param timestampSupplier  The timestamp supplier
+     * @param randomnessFunction The randomness function
+     * @return A new striped monotonic ULID factory
+     * @see StripedMonotonicULIDFactory
+     */
+    static ULIDFactory stripedMonotonicFactory(LongSupplier timestampSupplier,
+                                               IntFunction<byte[]> randomnessFunction) {
+        return new StripedMonotonicULIDFactory(timestampSupplier, randomnessFunction,
+                StripedMonotonicULIDFactory.DEFAULT_STRIPES);
+    }
+
+    /**
+     * Create a new striped monotonic ULID factory instance with timestamp supplier, randomness function and
+     * count of stripes.
+     *
+     * @param timestampSupplier  The timestamp supplier
+     * @param randomnessFunction The randomness function
+     * @param stripes            The count of stripes, rounded up to a power of two
+     * @return A new striped monotonic ULID factory
+     * @see StripedMonotonicULIDFactory
+     */
+    static ULIDFactory stripedMonotonicFactory(LongSupplier timestampSupplier,
+                                               IntFunction<byte[]> randomnessFunction,
+                                               int stripes) {
+        return new StripedMonotonicULIDFactory(timestampSupplier, randomnessFunction, stripes);
+    }
+
+    /**
+     * Create a new striped monotonic ULID factory instance with timestamp supplier and randomness source.
+     *
+     * @param timestampSupplier The timestamp supplier
+     * @param randomnessSource  The randomness source
+     * @return A new striped monotonic ULID factory
+     * @see StripedMonotonicULIDFactory
+     */
+    static ULIDFactory stripedMonotonicFactory(LongSupplier timestampSupplier,
+                                               RandomnessSource randomnessSource) {
+        return new StripedMonotonicULIDFactory(timestampSupplier, randomnessSource,
+                StripedMonotonicULIDFactory.DEFAULT_STRIPES);
+    }
+
+    /**
+     * Create a new striped monotonic ULID factory instance with timestamp supplier, randomness source and
+     * count of stripes.
+     *
+     * @param timestampSupplier The timestamp supplier
+     * @param randomnessSource  The randomness source
+     * @param stripes           The count of stripes, rounded up to a power of two
+     * @return A new striped monotonic ULID factory
+     * @see StripedMonotonicULIDFactory
+     */
+    static ULIDFactory stripedMonotonicFactory(LongSupplier timestampSupplier,
+                                               RandomnessSource randomnessSource,
+                                               int stripes) {
+        return new StripedMonotonicULIDFactory(timestampSupplier, randomnessSource, stripes);
+    }
+
+    /**
+     * Create a new striped monotonic ULID factory instance with timestamp supplier, randomness source, count of
+     * stripes and metrics.
+     *
+     * @param timestampSupplier The timestamp supplier
+     * @param randomnessSource  The randomness source
+     * @param stripes           The count of stripes, rounded up to a power of two
+     * @param metrics           The metrics to record into
+     * @return A new striped monotonic ULID factory
+     * @see StripedMonotonicULIDFactory
+     */
+    static ULIDFactory stripedMonotonicFactory(LongSupplier timestampSupplier,
+                                               RandomnessSource randomnessSource,
+                                               int stripes,
+                                               ULIDFactoryMetrics metrics) {
+        return new StripedMonotonicULIDFactory(timestampSupplier, randomnessSource, stripes,
+                Objects.requireNonNull(metrics));
+    }
+
+    /**
+     * Create a new sharded monotonic ULID factory instance, the highest shard bits of the randomness component
+     * hold the shard id, so ULIDs of different shards never collide.
+     *
+     * @param shardBits The count of shard bits, between 1 and 16
+     * @param shard     The shard id, between 0 and 2 ^ shardBits - 1
+     * @return A new sharded monotonic ULID factory
+     * @see ShardedMonotonicULIDFactory
+     */
+    static ULIDFactory shardedMonotonicFactory(int shardBits, int shard) {
+        return new ShardedMonotonicULIDFactory(DEFAULT_TIMESTAMP_SUPPLIER, DEFAULT_RANDOMNESS_SOURCE, shardBits,
+                shard, null);
+    }
+
+    /**
+     * Create a new sharded monotonic ULID factory instance with timestamp supplier and randomness source.
+     *
+     * @param timestampSupplier The timestamp supplier
+     * @param randomnessSource  The randomness source
+     * @param shardBits         The count of shard bits, between 1 and 16
+     * @param shard             The shard id, between 0 and 2 ^ shardBits - 1
+     * @return A new sharded monotonic ULID factory
+     * @see ShardedMonotonicULIDFactory
+     */
+    static ULIDFactory shardedMonotonicFactory(LongSupplier timestampSupplier,
+                                               RandomnessSource randomnessSource,
+                                               int shardBits,
+                                               int shard) {
+        return new ShardedMonotonicULIDFactory(timestampSupplier, randomnessSource, shardBits, shard, null);
+    }
+
+    /**
+     * Create a new sharded monotonic ULID factory instance with timestamp supplier, randomness source and
+     * metrics.
+     *
+     * @param timestampSupplier The timestamp supplier
+     * @param randomnessSource  The randomness source
+     * @param shardBits         The count of shard bits, between 1 and 16
+     * @param shard             The shard id, between 0 and 2 ^ shardBits - 1
+     * @param metrics           The metrics to record into
+     * @return A new sharded monotonic ULID factory
+     * @see ShardedMonotonicULIDFactory
+     */
+    static ULIDFactory shardedMonotonicFactory(LongSupplier timestampSupplier,
+                                               RandomnessSource randomnessSource,
+                                               int shardBits,
+                                               int shard,
+                                               ULIDFactoryMetrics metrics) {
+        return new ShardedMonotonicULIDFactory(timestampSupplier, randomnessSource, shardBits, shard,
+                Objects.requireNonNull(metrics));
+    }
+
+    /**
+     * Create a new UUIDv7 monotonic ULID factory instance, the ULIDs are valid UUIDv7 too, the version and variant
+     * bits are fixed and the remaining 74 bits are monotonic randomness.
+     *
+     * @return A new UUIDv7 monotonic ULID factory
+     * @see UUIDv7MonotonicULIDFactory
+     */
+    static ULIDFactory uuidV7MonotonicFactory() {
+        return new UUIDv7MonotonicULIDFactory(DEFAULT_TIMESTAMP_SUPPLIER, DEFAULT_RANDOMNESS_SOURCE, null);
+    }
+
+    /**
+     * Create a new UUIDv7 monotonic ULID factory instance with timestamp supplier and randomness source.
+     *
+     * @param timestampSupplier The timestamp supplier
+     * @param randomnessSource  The randomness source
+     * @return A new UUIDv7 monotonic ULID factory
+     * @see UUIDv7MonotonicULIDFactory
+     */
+    static ULIDFactory uuidV7MonotonicFactory(LongSupplier timestampSupplier, RandomnessSource randomnessSource) {
+        return new UUIDv7MonotonicULIDFactory(timestampSupplier, randomnessSource, null);
+    }
+
+    /**
+     * Create a new UUIDv7 monotonic ULID factory instance with timestamp supplier, randomness source and metrics.
+     *
+     * @param timestampSupplier The timestamp supplier
+     * @param randomnessSource  The randomness source
+     * @param metrics           The metrics to record into
+     * @return A new UUIDv7 monotonic ULID factory
+     * @see UUIDv7MonotonicULIDFactory
+     */
+    static ULIDFactory uuidV7MonotonicFactory(LongSupplier timestampSupplier,
+                                              RandomnessSource randomnessSource,
+                                              ULIDFactoryMetrics metrics) {
+        return new UUIDv7MonotonicULIDFactory(timestampSupplier, randomnessSource, Objects.requireNonNull(metrics));
+    }
 }
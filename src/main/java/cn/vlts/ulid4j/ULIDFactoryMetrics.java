@@ -0,0 +1,305 @@
+package cn.vlts.ulid4j;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Counters of a ULID factory, passed to the factory on creation, e.g.
+ * <pre>{@code
+ * ULIDFactoryMetrics metrics = new ULIDFactoryMetrics();
+ * ULIDFactory ulidFactory = ULIDFactory.monotonicFactory(System::currentTimeMillis, ULIDFactory.DEFAULT_RANDOMNESS_SOURCE, metrics);
+ * metrics.register("orders");
+ * ULIDFactoryMetrics.Snapshot snapshot = metrics.snapshot();
+ * }</pre>
+ * The counters are striped {@link LongAdder}s, so recording does not add contention between threads. Factories
+ * created without metrics record nothing.
+ * <p>
+ * A clock regression is counted when a monotonic factory reads a timestamp from the clock which is earlier than the
+ * latest timestamp recorded before the read started. The timestamps of installed ULIDs are not compared, so a thread
+ * losing the CAS to a ULID of a later millisecond, or reading the clock concurrently with a later reading, is not
+ * counted. ULIDs created with an explicit timestamp do not count either.
+ * @since 2026/10/16 18:20
+ */
+public final class ULIDFactoryMetrics implements ULIDFactoryMetricsMBean {
+
+    /**
+     * The domain of object names registered by {@link #register(String)}
+     */
+    public static final String JMX_DOMAIN = "cn.vlts.ulid4j";
+
+    private final LongAdder generated = new LongAdder();
+
+    private final LongAdder casRetries = new LongAdder();
+
+    private final LongAdder increments = new LongAdder();
+
+    private final LongAdder freshRandomness = new LongAdder();
+
+    private final LongAdder randomnessOverflows = new LongAdder();
+
+    private final LongAdder clockRegressions = new LongAdder();
+
+    private final LongAdder clockRegressionMillis = new LongAdder();
+
+    private final LongAccumulator maxClockRegressionMillis = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * The latest timestamp read from the clock, it is the reference of clock regressions and not reset
+     */
+    private final LongAccumulator maxTimestamp = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    private volatile ObjectName objectName;
+
+    /**
+     * Record ULIDs of a non-monotonic factory, all of them are created with fresh randomness.
+     */
+    void recordRandom(long n) {
+        generated.add(n);
+        freshRandomness.add(n);
+    }
+
+    /**
+     * Record a contiguous block of n ULIDs installed by a monotonic factory.
+     *
+     * @param lastTimestamp The timestamp of the previous ULID
+     * @param timestamp     The seed time
+     * @param endTimestamp  The timestamp of the last ULID of the block
+     * @param n             The count of ULIDs in the block
+     * @param retries       The count of failed CAS attempts
+     */
+    void recordMonotonic(long lastTimestamp, long timestamp, long endTimestamp, long n, int retries) {
+        generated.add(n);
+        if (retries > 0) {
+            casRetries.add(retries);
+        }
+        long base;
+        if (timestamp > lastTimestamp) {
+            freshRandomness.increment();
+            if (n > 1) {
+                increments.add(n - 1);
+            }
+            base = timestamp;
+        } else {
+            increments.add(n);
+            base = lastTimestamp;
+        }
+        if (endTimestamp > base) {
+            randomnessOverflows.increment();
+        }
+    }
+
+    /**
+     * Get the latest timestamp read from the clock, monotonic factories get it before reading the clock.
+     */
+    long latestTimestamp() {
+        return maxTimestamp.get();
+    }
+
+    /**
+     * Record a timestamp read from the clock by a monotonic factory. The latest timestamp was recorded before the
+     * clock was read, so an earlier timestamp means the clock really stepped back.
+     *
+     * @param latest    The latest timestamp got before reading the clock
+     * @param timestamp The timestamp read from the clock
+     */
+    void recordTimestamp(long latest, long timestamp) {
+        if (timestamp > latest) {
+            maxTimestamp.accumulate(timestamp);
+        } else if (timestamp < latest) {
+            long millis = latest - timestamp;
+            clockRegressions.increment();
+            clockRegressionMillis.add(millis);
+            maxClockRegressionMillis.accumulate(millis);
+        }
+    }
+
+    @Override
+    public long getGenerated() {
+        return generated.sum();
+    }
+
+    @Override
+    public long getCasRetries() {
+        return casRetries.sum();
+    }
+
+    @Override
+    public long getIncrements() {
+        return increments.sum();
+    }
+
+    @Override
+    public long getFreshRandomness() {
+        return freshRandomness.sum();
+    }
+
+    @Override
+    public long getRandomnessOverflows() {
+        return randomnessOverflows.sum();
+    }
+
+    @Override
+    public long getClockRegressions() {
+        return clockRegressions.sum();
+    }
+
+    @Override
+    public long getClockRegressionMillis() {
+        return clockRegressionMillis.sum();
+    }
+
+    @Override
+    public long getMaxClockRegressionMillis() {
+        return maxClockRegressionMillis.get();
+    }
+
+    @Override
+    public void reset() {
+        generated.reset();
+        casRetries.reset();
+        increments.reset();
+        freshRandomness.reset();
+        randomnessOverflows.reset();
+        clockRegressions.reset();
+        clockRegressionMillis.reset();
+        maxClockRegressionMillis.reset();
+    }
+
+    /**
+     * Take a snapshot of all counters, the counters are read one by one without stopping the factory, so the
+     * snapshot is not atomic under concurrent updates.
+     *
+     * @return The snapshot
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(getGenerated(), getCasRetries(), getIncrements(), getFreshRandomness(),
+                getRandomnessOverflows(), getClockRegressions(), getClockRegressionMillis(),
+                getMaxClockRegressionMillis());
+    }
+
+    /**
+     * Register the metrics to the platform MBean server with object name
+     * {@code cn.vlts.ulid4j:type=ULIDFactory,name=<name>}.
+     *
+     * @param name The name of factory
+     * @return The registered object name
+     */
+    public synchronized ObjectName register(String name) {
+        if (objectName != null) {
+            throw new IllegalStateException("Metrics are already registered as " + objectName);
+        }
+        try {
+            ObjectName on = new ObjectName(JMX_DOMAIN + ":type=ULIDFactory,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, on);
+            objectName = on;
+            return on;
+        } catch (JMException e) {
+            throw new IllegalStateException("Register metrics failed", e);
+        }
+    }
+
+    /**
+     * Unregister the metrics from the platform MBean server, it has no effect if the metrics are not registered.
+     */
+    public synchronized void unregister() {
+        ObjectName on = objectName;
+        if (on == null) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(on)) {
+                server.unregisterMBean(on);
+            }
+            objectName = null;
+        } catch (JMException e) {
+            throw new IllegalStateException("Unregister metrics failed", e);
+        }
+    }
+
+    /**
+     * Immutable snapshot of the counters.
+     */
+    public static final class Snapshot {
+
+        private final long generated;
+
+        private final long casRetries;
+
+        private final long increments;
+
+        private final long freshRandomness;
+
+        private final long randomnessOverflows;
+
+        private final long clockRegressions;
+
+        private final long clockRegressionMillis;
+
+        private final long maxClockRegressionMillis;
+
+        Snapshot(long generated, long casRetries, long increments, long freshRandomness, long randomnessOverflows,
+                 long clockRegressions, long clockRegressionMillis, long maxClockRegressionMillis) {
+            this.generated = generated;
+            this.casRetries = casRetries;
+            this.increments = increments;
+            this.freshRandomness = freshRandomness;
+            this.randomnessOverflows = randomnessOverflows;
+            this.clockRegressions = clockRegressions;
+            this.clockRegressionMillis = clockRegressionMillis;
+            this.maxClockRegressionMillis = maxClockRegressionMillis;
+        }
+
+        public long getGenerated() {
+            return generated;
+        }
+
+        public long getCasRetries() {
+            return casRetries;
+        }
+
+        public long getIncrements() {
+            return increments;
+        }
+
+        public long getFreshRandomness() {
+            return freshRandomness;
+        }
+
+        public long getRandomnessOverflows() {
+            return randomnessOverflows;
+        }
+
+        public long getClockRegressions() {
+            return clockRegressions;
+        }
+
+        public long getClockRegressionMillis() {
+            return clockRegressionMillis;
+        }
+
+        public long getMaxClockRegressionMillis() {
+            return maxClockRegressionMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot{" +
+                    "generated=" + generated +
+                    ", casRetries=" + casRetries +
+                    ", increments=" + increments +
+                    ", freshRandomness=" + freshRandomness +
+                    ", randomnessOverflows=" + randomnessOverflows +
+                    ", clockRegressions=" + clockRegressions +
+                    ", clockRegressionMillis=" + clockRegressionMillis +
+                    ", maxClockRegressionMillis=" + maxClockRegressionMillis +
+                    '}';
+        }
+    }
+}
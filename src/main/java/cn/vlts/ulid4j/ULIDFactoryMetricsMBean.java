@@ -0,0 +1,55 @@
+package cn.vlts.ulid4j;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Management interface of {@link ULIDFactoryMetrics}.
+ * @since 2026/10/16 18:20
+ */
+public interface ULIDFactoryMetricsMBean {
+
+    /**
+     * @return The count of generated ULIDs
+     */
+    long getGenerated();
+
+    /**
+     * @return The count of failed CAS attempts on the monotonic state
+     */
+    long getCasRetries();
+
+    /**
+     * @return The count of ULIDs derived by incrementing the previous ULID
+     */
+    long getIncrements();
+
+    /**
+     * @return The count of ULIDs created with fresh randomness
+     */
+    long getFreshRandomness();
+
+    /**
+     * @return The count of increments whose randomness overflowed into the timestamp component
+     */
+    long getRandomnessOverflows();
+
+    /**
+     * @return The count of timestamps read from the clock which were earlier than a timestamp read before
+     */
+    long getClockRegressions();
+
+    /**
+     * @return The sum of clock regressions in milliseconds
+     */
+    long getClockRegressionMillis();
+
+    /**
+     * @return The max clock regression in milliseconds
+     */
+    long getMaxClockRegressionMillis();
+
+    /**
+     * Reset all counters to zero.
+     */
+    void reset();
+}
@@ -0,0 +1,96 @@
+package cn.vlts.ulid4j;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Open-addressing hash set of ULID, the elements are stored inline as two primitive long arrays without
+ * boxing. This class is not thread-safe.
+ * @since 2026/10/16 14:20
+ */
+public final class ULIDHashSet extends AbstractULIDHashTable {
+
+    /**
+     * Creates an empty set with default expected size and load factor.
+     */
+    public ULIDHashSet() {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty set which holds the expected count of elements without rehashing.
+     *
+     * @param expectedSize The expected count of elements
+     */
+    public ULIDHashSet(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty set with the expected size and load factor.
+     *
+     * @param expectedSize The expected count of elements
+     * @param loadFactor   The load factor, between 0 and 1 (both exclusive)
+     */
+    public ULIDHashSet(int expectedSize, float loadFactor) {
+        super(expectedSize, loadFactor);
+    }
+
+    public boolean add(ULID ulid) {
+        return add(ulid.getMostSignificantBits(), ulid.getLeastSignificantBits());
+    }
+
+    /**
+     * Add the ULID in the form of the most significant 64 bits and the least significant 64 bits.
+     *
+     * @param msb The most significant 64 bits of ULID
+     * @param lsb The least significant 64 bits of ULID
+     * @return true if the set did not already contain the ULID
+     */
+    public boolean add(long msb, long lsb) {
+        int pos = find(msb, lsb);
+        if (pos >= 0) {
+            return false;
+        }
+        insertAt(-pos - 1, msb, lsb);
+        return true;
+    }
+
+    public boolean contains(ULID ulid) {
+        return contains(ulid.getMostSignificantBits(), ulid.getLeastSignificantBits());
+    }
+
+    public boolean contains(long msb, long lsb) {
+        return find(msb, lsb) >= 0;
+    }
+
+    public boolean remove(ULID ulid) {
+        return remove(ulid.getMostSignificantBits(), ulid.getLeastSignificantBits());
+    }
+
+    /**
+     * Remove the ULID in the form of the most significant 64 bits and the least significant 64 bits.
+     *
+     * @param msb The most significant 64 bits of ULID
+     * @param lsb The least significant 64 bits of ULID
+     * @return true if the set contained the ULID
+     */
+    public boolean remove(long msb, long lsb) {
+        int pos = find(msb, lsb);
+        if (pos < 0) {
+            return false;
+        }
+        removeAt(pos);
+        return true;
+    }
+
+    /**
+     * Performs the operation on each element without creating ULID instances, in no particular order.
+     *
+     * @param consumer The consumer
+     */
+    public void forEach(ULIDConsumer consumer) {
+        for (int pos = nextSlot(0); pos >= 0; pos = nextSlot(pos + 1)) {
+            consumer.accept(msbs[pos], lsbs[pos]);
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package cn.vlts.ulid4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Append-only file of sorted ULIDs, stored as fixed 16 bytes big-endian records after a 16 bytes
+ * header. Lookups and range scans read the records through memory-mapped segments without deserialization, and
+ * a sparse in-memory fence index holds the timestamp of every {@value #FENCE_INTERVAL}-th record to narrow the
+ * binary search. The ULIDs must be appended in strictly ascending order, e.g. from a monotonic factory. This
+ * class is not thread-safe.
+ * @since 2026/10/16 15:20
+ */
+public final class ULIDIndexFile implements Closeable {
+
+    /**
+     * Magic number of file, "ULIDIDX" followed by format version 1
+     */
+    private static final long MAGIC = 0x554c4944494458_01L;
+
+    private static final int HEADER_LEN = 16;
+
+    private static final int RECORD_LEN = ULID.BINARY_BYTE_LEN;
+
+    /**
+     * The count of records between two fences
+     */
+    static final int FENCE_INTERVAL = 64;
+
+    /**
+     * The count of records of one mapped segment, 1 GiB per segment
+     */
+    private static final int SEGMENT_SHIFT = 26;
+
+    private static final long SEGMENT_RECORDS = 1L << SEGMENT_SHIFT;
+
+    private static final int WRITE_BUFFER_RECORDS = 4096;
+
+    private final FileChannel channel;
+
+    private final boolean readOnly;
+
+    private final ByteBuffer writeBuffer;
+
+    private MappedByteBuffer[] segments = new MappedByteBuffer[0];
+
+    /**
+     * The count of records covered by mapped segments
+     */
+    private long mappedRecords;
+
+    /**
+     * The count of records written to the channel
+     */
+    private long flushedRecords;
+
+    /**
+     * The count of records, including the records in write buffer
+     */
+    private long size;
+
+    private long[] fences = new long[16];
+
+    private int fenceCount;
+
+    private long lastMsb;
+
+    private long lastLsb;
+
+    private ULIDIndexFile(FileChannel channel, boolean readOnly) throws IOException {
+        this.channel = channel;
+        this.readOnly = readOnly;
+        this.writeBuffer = readOnly ? null : ByteBuffer.allocateDirect(WRITE_BUFFER_RECORDS * RECORD_LEN);
+        long length = channel.size();
+        if (length == 0) {
+            if (readOnly) {
+                throw new IOException("Empty ULID index file");
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LEN).putLong(MAGIC).putLong(0L);
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        } else {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LEN);
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                // read the whole header
+            }
+            if (header.hasRemaining() || header.getLong(0) != MAGIC) {
+                throw new IOException("Invalid ULID index file");
+            }
+            // a partially written trailing record is dropped
+            this.size = (length - HEADER_LEN) / RECORD_LEN;
+            if (!readOnly && length != HEADER_LEN + size * RECORD_LEN) {
+                channel.truncate(HEADER_LEN + size * RECORD_LEN);
+            }
+            this.flushedRecords = size;
+            remap();
+            for (long i = 0; i < size; i += FENCE_INTERVAL) {
+                addFence(msbAt(i) >>> 16);
+            }
+            if (size > 0) {
+                this.lastMsb = msbAt(size - 1);
+                this.lastLsb = lsbAt(size - 1);
+            }
+        }
+    }
+
+    /**
+     * Open the index file for reading and appending, the file is created if it does not exist.
+     *
+     * @param path The path of file
+     * @return The index file
+     * @throws IOException If an I/O error occurs or the file is not a ULID index file
+     */
+    public static ULIDIndexFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            return new ULIDIndexFile(channel, false);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Open the index file for reading only.
+     *
+     * @param path The path of file
+     * @return The index file
+     * @throws IOException If an I/O error occurs or the file is not a ULID index file
+     */
+    public static ULIDIndexFile openReadOnly(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new ULIDIndexFile(channel, true);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public void append(ULID ulid) throws IOException {
+        append(ulid.getMostSignificantBits(), ulid.getLeastSignificantBits());
+    }
+
+    /**
+     * Append a ULID, which must be greater than the last appended ULID. The record is buffered until the buffer
+     * is full or {@link #flush()} is called.
+     *
+     * @param msb The most significant 64 bits of ULID
+     * @param lsb The least significant 64 bits of ULID
+     * @throws IOException If an I/O error occurs
+     */
+    public void append(long msb, long lsb) throws IOException {
+        if (readOnly) {
+            throw new UnsupportedOperationException("Read-only ULID index file");
+        }
+        if (size > 0 && ULIDArray.compare(msb, lsb, lastMsb, lastLsb) <= 0) {
+            throw new IllegalArgumentException("ULID is out of order");
+        }
+        if (!writeBuffer.hasRemaining()) {
+            flush();
+        }
+        writeBuffer.putLong(msb).putLong(lsb);
+        if ((size & (FENCE_INTERVAL - 1)) == 0) {
+            addFence(msb >>> 16);
+        }
+        lastMsb = msb;
+        lastLsb = lsb;
+        size++;
+    }
+
+    /**
+     * Append all ULIDs of a sorted array.
+     *
+     * @param array The sorted array
+     * @throws IOException If an I/O error occurs
+     */
+    public void appendAll(ULIDArray array) throws IOException {
+        for (int i = 0, n = array.size(); i < n; i++) {
+            append(array.getMostSignificantBits(i), array.getLeastSignificantBits(i));
+        }
+    }
+
+    /**
+     * Write the buffered records to the file.
+     *
+     * @throws IOException If an I/O error occurs
+     */
+    public void flush() throws IOException {
+        if (writeBuffer == null || writeBuffer.position() == 0) {
+            return;
+        }
+        writeBuffer.flip();
+        long position = HEADER_LEN + flushedRecords * RECORD_LEN;
+        while (writeBuffer.hasRemaining()) {
+            position += channel.write(writeBuffer, position);
+        }
+        writeBuffer.clear();
+        flushedRecords = size;
+    }
+
+    /**
+     * Write the buffered records to the file and force them to the storage device.
+     *
+     * @throws IOException If an I/O error occurs
+     */
+    public void force() throws IOException {
+        flush();
+        channel.force(false);
+    }
+
+    /**
+     * Get the count of ULIDs.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Get the ULID at the specified index.
+     *
+     * @param index The index
+     * @return The ULID
+     * @throws IOException If an I/O error occurs
+     */
+    public ULID get(long index) throws IOException {
+        Objects.checkIndex(index, size);
+        ensureReadable(index + 1);
+        return new ULID(msbAt(index), lsbAt(index));
+    }
+
+    /**
+     * Get the index of the first ULID whose timestamp component is not less than the specified timestamp.
+     *
+     * @param timestamp The timestamp
+     * @return The index of the first ULID not earlier than the timestamp, or size if there is no such ULID
+     * @throws IOException If an I/O error occurs
+     */
+    public long lowerBound(long timestamp) throws IOException {
+        return bound(timestamp, false);
+    }
+
+    /**
+     * Get the index of the first ULID whose timestamp component is greater than the specified timestamp.
+     *
+     * @param timestamp The timestamp
+     * @return The index of the first ULID later than the timestamp, or size if there is no such ULID
+     * @throws IOException If an I/O error occurs
+     */
+    public long upperBound(long timestamp) throws IOException {
+        return bound(timestamp, true);
+    }
+
+    private long bound(long timestamp, boolean upper) throws IOException {
+        if (upper && timestamp == Long.MAX_VALUE) {
+            return size;
+        }
+        ensureReadable(size);
+        // the first fence not less than the key bounds the search to the records after the previous fence
+        long key = upper ? timestamp + 1 : timestamp;
+        int fence = Arrays.binarySearch(fences, 0, fenceCount, key);
+        fence = fence >= 0 ? fence : -fence - 1;
+        while (fence > 0 && fences[fence - 1] >= key) {
+            fence--;
+        }
+        long low = Math.max(0L, (long) (fence - 1) * FENCE_INTERVAL);
+        long high = Math.min(size, (long) fence * FENCE_INTERVAL);
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if ((msbAt(mid) >>> 16) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Search the ULID with binary search.
+     *
+     * @param ulid The ULID to search
+     * @return The index of the ULID if it is contained, otherwise (-(insertion point) - 1)
+     * @throws IOException If an I/O error occurs
+     */
+    public long indexOf(ULID ulid) throws IOException {
+        long msb = ulid.getMostSignificantBits();
+        long lsb = ulid.getLeastSignificantBits();
+        long low = lowerBound(msb >>> 16);
+        long high = upperBound(msb >>> 16) - 1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            int cmp = ULIDArray.compare(msbAt(mid), lsbAt(mid), msb, lsb);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    public boolean contains(ULID ulid) throws IOException {
+        return indexOf(ulid) >= 0;
+    }
+
+    /**
+     * Performs the operation on each ULID whose timestamp component is between fromTimestamp (inclusive) and
+     * toTimestamp (inclusive), the records are read from the mapped segments without deserialization.
+     *
+     * @param fromTimestamp The lower bound of timestamp, inclusive
+     * @param toTimestamp   The upper bound of timestamp, inclusive
+     * @param consumer      The consumer
+     * @throws IOException If an I/O error occurs
+     */
+    public void forEachInTimeRange(long fromTimestamp, long toTimestamp, ULIDConsumer consumer) throws IOException {
+        for (long i = lowerBound(fromTimestamp), end = upperBound(toTimestamp); i < end; i++) {
+            MappedByteBuffer segment = segments[(int) (i >>> SEGMENT_SHIFT)];
+            int offset = (int) (i & (SEGMENT_RECORDS - 1)) * RECORD_LEN;
+            consumer.accept(segment.getLong(offset), segment.getLong(offset + 8));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            segments = new MappedByteBuffer[0];
+            channel.close();
+        }
+    }
+
+    private void addFence(long timestamp) {
+        if (fenceCount == fences.length) {
+            fences = Arrays.copyOf(fences, fenceCount << 1);
+        }
+        fences[fenceCount++] = timestamp;
+    }
+
+    /**
+     * Make sure the first n records are written and mapped.
+     */
+    private void ensureReadable(long n) throws IOException {
+        if (n > flushedRecords) {
+            flush();
+        }
+        if (n > mappedRecords) {
+            remap();
+        }
+    }
+
+    /**
+     * Map the flushed records, only the last partial segment and new segments are mapped again.
+     */
+    private void remap() throws IOException {
+        int count = (int) ((flushedRecords + SEGMENT_RECORDS - 1) >>> SEGMENT_SHIFT);
+        MappedByteBuffer[] newSegments = Arrays.copyOf(segments, count);
+        for (int i = Math.max(0, segments.length - 1); i < count; i++) {
+            long first = (long) i << SEGMENT_SHIFT;
+            long records = Math.min(SEGMENT_RECORDS, flushedRecords - first);
+            newSegments[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_LEN + first * RECORD_LEN,
+                    records * RECORD_LEN);
+        }
+        segments = newSegments;
+        mappedRecords = flushedRecords;
+    }
+
+    private long msbAt(long index) {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].getLong((int) (index & (SEGMENT_RECORDS - 1)) * RECORD_LEN);
+    }
+
+    private long lsbAt(long index) {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].getLong((int) (index & (SEGMENT_RECORDS - 1)) * RECORD_LEN + 8);
+    }
+}
@@ -0,0 +1,334 @@
+package cn.vlts.ulid4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Streaming reader of newline-delimited canonical ULID strings from a blocking channel or a
+ * memory-mapped file. The ASCII bytes are decoded in place from the buffer through the decoding table, no object
+ * is created per line. Lines may end with "\n" or "\r\n", empty lines are skipped. Malformed lines are reported to
+ * the {@link MalformedLineHandler} and skipped instead of thrown, so one bad row does not fail a bulk job. This
+ * class is not thread-safe.
+ * <pre>{@code
+ * try (ULIDLineReader reader = ULIDLineReader.map(path, (lineNumber, line) -> log.warn(...))) {
+ *     int n;
+ *     while ((n = reader.read(msbs, lsbs, 0, msbs.length)) >= 0) {
+ *         ...
+ *     }
+ * }
+ * }</pre>
+ * @since 2026/10/16 20:20
+ */
+public final class ULIDLineReader implements Closeable {
+
+    /**
+     * Default size of buffer in bytes for channels
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The max length of a valid line, including "\r"
+     */
+    private static final int MAX_LINE_LEN = ULID.CANONICAL_STRING_LEN + 1;
+
+    /**
+     * The max length of malformed line passed to the handler
+     */
+    private static final int MAX_REPORTED_LEN = 64;
+
+    /**
+     * The size of mapped segment of file
+     */
+    private static final long SEGMENT_SIZE = 1L << 30;
+
+    /**
+     * The size of batch used by {@link #readAll(ULIDConsumer)}
+     */
+    private static final int BATCH_SIZE = 1024;
+
+    private final ReadableByteChannel channel;
+
+    private final FileChannel fileChannel;
+
+    private final long fileSize;
+
+    /**
+     * The file offset of the limit of mapped segment
+     */
+    private long mappedEnd;
+
+    private final MalformedLineHandler handler;
+
+    private ByteBuffer buffer;
+
+    private long lineNumber;
+
+    private long malformedLines;
+
+    /**
+     * The current line is longer than any valid line, skip to the next newline
+     */
+    private boolean skipping;
+
+    private boolean eof;
+
+    /**
+     * Creates a reader over a blocking channel with default buffer size, malformed lines are only counted.
+     *
+     * @param channel The channel
+     */
+    public ULIDLineReader(ReadableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE, null);
+    }
+
+    /**
+     * Creates a reader over a blocking channel.
+     *
+     * @param channel    The channel
+     * @param bufferSize The size of direct buffer in bytes, not less than 64
+     * @param handler    The handler of malformed lines, nullable
+     */
+    public ULIDLineReader(ReadableByteChannel channel, int bufferSize, MalformedLineHandler handler) {
+        if (bufferSize < 64) {
+            throw new IllegalArgumentException("Invalid buffer size, it must not be less than 64");
+        }
+        this.channel = Objects.requireNonNull(channel);
+        this.fileChannel = null;
+        this.fileSize = 0L;
+        this.handler = handler;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.buffer.flip();
+    }
+
+    private ULIDLineReader(FileChannel fileChannel, MalformedLineHandler handler) throws IOException {
+        this.channel = null;
+        this.fileChannel = fileChannel;
+        this.fileSize = fileChannel.size();
+        this.handler = handler;
+        this.buffer = ByteBuffer.allocate(0);
+    }
+
+    /**
+     * Open a reader over the memory-mapped file, the file is mapped in segments of 1 GiB.
+     *
+     * @param path    The path of file
+     * @param handler The handler of malformed lines, nullable
+     * @return A new reader
+     * @throws IOException If an I/O error occurs
+     */
+    public static ULIDLineReader map(Path path, MalformedLineHandler handler) throws IOException {
+        FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new ULIDLineReader(fileChannel, handler);
+        } catch (IOException | RuntimeException e) {
+            fileChannel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Read the next ULIDs into primitive arrays.
+     *
+     * @param msbs The destination of the most significant 64 bits
+     * @param lsbs The destination of the least significant 64 bits
+     * @param off  The index of destination
+     * @param len  The max count of ULIDs to read
+     * @return The count of ULIDs read, or -1 if the end of input is reached
+     * @throws IOException If an I/O error occurs
+     */
+    public int read(long[] msbs, long[] lsbs, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, msbs.length);
+        Objects.checkFromIndexSize(off, len, lsbs.length);
+        int n = 0;
+        while (n < len) {
+            ByteBuffer buf = buffer;
+            int start = buf.position();
+            int limit = buf.limit();
+            int end = indexOfNewline(buf, start, limit);
+            if (skipping) {
+                if (end < 0) {
+                    buf.position(limit);
+                    if (!fill()) {
+                        skipping = false;
+                    }
+                } else {
+                    buf.position(end + 1);
+                    skipping = false;
+                }
+                continue;
+            }
+            if (end < 0) {
+                if (limit - start > MAX_LINE_LEN) {
+                    // no valid line is that long, report it now and skip the rest of it
+                    lineNumber++;
+                    malformed(buf, start, Math.min(limit, start + MAX_REPORTED_LEN));
+                    buf.position(limit);
+                    skipping = true;
+                    continue;
+                }
+                if (fill()) {
+                    continue;
+                }
+                buf = buffer;
+                start = buf.position();
+                limit = buf.limit();
+                if (start == limit) {
+                    break;
+                }
+                // the last line without newline
+                end = limit;
+            }
+            lineNumber++;
+            if (parseLine(buf, start, end, msbs, lsbs, off + n)) {
+                n++;
+            }
+            buf.position(Math.min(end + 1, limit));
+        }
+        return n == 0 && len > 0 && eof && !buffer.hasRemaining() ? -1 : n;
+    }
+
+    /**
+     * Read all remaining ULIDs into the consumer.
+     *
+     * @param consumer The consumer of ULIDs
+     * @return The count of ULIDs read
+     * @throws IOException If an I/O error occurs
+     */
+    public long readAll(ULIDConsumer consumer) throws IOException {
+        long[] msbs = new long[BATCH_SIZE];
+        long[] lsbs = new long[BATCH_SIZE];
+        long count = 0;
+        int n;
+        while ((n = read(msbs, lsbs, 0, BATCH_SIZE)) >= 0) {
+            for (int i = 0; i < n; i++) {
+                consumer.accept(msbs[i], lsbs[i]);
+            }
+            count += n;
+        }
+        return count;
+    }
+
+    /**
+     * Get the count of lines read so far, including empty and malformed lines.
+     *
+     * @return The count of lines
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Get the count of malformed lines so far.
+     *
+     * @return The count of malformed lines
+     */
+    public long getMalformedLines() {
+        return malformedLines;
+    }
+
+    private boolean parseLine(ByteBuffer buf, int start, int end, long[] msbs, long[] lsbs, int at) {
+        if (end > start && buf.get(end - 1) == '\r') {
+            end--;
+        }
+        if (end == start) {
+            return false;
+        }
+        if (end - start == ULID.CANONICAL_STRING_LEN && ULID.decode(buf, start, msbs, lsbs, at)) {
+            return true;
+        }
+        malformed(buf, start, end);
+        return false;
+    }
+
+    private void malformed(ByteBuffer buf, int start, int end) {
+        malformedLines++;
+        if (handler != null) {
+            int len = Math.min(end - start, MAX_REPORTED_LEN);
+            byte[] bytes = new byte[len];
+            for (int i = 0; i < len; i++) {
+                bytes[i] = buf.get(start + i);
+            }
+            handler.handle(lineNumber, new String(bytes, StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    private static int indexOfNewline(ByteBuffer buf, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buf.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Make more bytes available after the unconsumed bytes of buffer.
+     *
+     * @return false if the end of input is reached
+     */
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (fileChannel != null) {
+            long start = mappedEnd - buffer.remaining();
+            if (mappedEnd >= fileSize) {
+                eof = true;
+                return false;
+            }
+            long size = Math.min(fileSize - start, SEGMENT_SIZE);
+            buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, start, size);
+            mappedEnd = start + size;
+            return true;
+        }
+        buffer.compact();
+        try {
+            int read;
+            while ((read = channel.read(buffer)) == 0) {
+                if (!buffer.hasRemaining()) {
+                    break;
+                }
+            }
+            if (read < 0) {
+                eof = true;
+                return false;
+            }
+            return true;
+        } finally {
+            buffer.flip();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (fileChannel != null) {
+            fileChannel.close();
+        } else {
+            channel.close();
+        }
+    }
+
+    /**
+     * Handler of malformed lines.
+     */
+    @FunctionalInterface
+    public interface MalformedLineHandler {
+
+        /**
+         * Handle a malformed line.
+         *
+         * @param lineNumber The line number, starting from 1
+         * @param line       The content of line, truncated to 64 chars
+         */
+        void handle(long lineNumber, String line);
+    }
+}
@@ -0,0 +1,176 @@
+package cn.vlts.ulid4j;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Writer of newline-delimited canonical ULID strings to a blocking channel, the ULIDs are encoded
+ * straight into a direct buffer without creating strings. This class is not thread-safe.
+ * @since 2026/10/16 20:20
+ */
+public final class ULIDLineWriter implements Closeable, Flushable {
+
+    /**
+     * Default size of buffer in bytes
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The length of line, including "\n"
+     */
+    private static final int LINE_LEN = ULID.CANONICAL_STRING_LEN + 1;
+
+    private final WritableByteChannel channel;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Creates a writer over a blocking channel with default buffer size.
+     *
+     * @param channel The channel
+     */
+    public ULIDLineWriter(WritableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a writer over a blocking channel.
+     *
+     * @param channel    The channel
+     * @param bufferSize The size of direct buffer in bytes, not less than 64
+     */
+    public ULIDLineWriter(WritableByteChannel channel, int bufferSize) {
+        if (bufferSize < 64) {
+            throw new IllegalArgumentException("Invalid buffer size, it must not be less than 64");
+        }
+        this.channel = Objects.requireNonNull(channel);
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Encode ULIDs of primitive arrays as lines into the byte buffer at its current position, as many ULIDs as fit
+     * in the remaining of buffer are encoded and the position is advanced.
+     *
+     * @param msbs The most significant 64 bits of ULIDs
+     * @param lsbs The least significant 64 bits of ULIDs
+     * @param off  The index of first ULID
+     * @param len  The count of ULIDs
+     * @param dst  The destination byte buffer
+     * @return The count of ULIDs encoded
+     */
+    public static int encode(long[] msbs, long[] lsbs, int off, int len, ByteBuffer dst) {
+        Objects.checkFromIndexSize(off, len, msbs.length);
+        Objects.checkFromIndexSize(off, len, lsbs.length);
+        int n = Math.min(len, dst.remaining() / LINE_LEN);
+        int position = dst.position();
+        for (int i = off, end = off + n; i < end; i++) {
+            ULID.encode(msbs[i], lsbs[i], dst, position);
+            dst.put(position + ULID.CANONICAL_STRING_LEN, (byte) '\n');
+            position += LINE_LEN;
+        }
+        dst.position(position);
+        return n;
+    }
+
+    /**
+     * Write a ULID as a line.
+     *
+     * @param ulid The ULID
+     * @throws IOException If an I/O error occurs
+     */
+    public void write(ULID ulid) throws IOException {
+        write(ulid.getMostSignificantBits(), ulid.getLeastSignificantBits());
+    }
+
+    /**
+     * Write a ULID as a line.
+     *
+     * @param msb The most significant 64 bits of ULID
+     * @param lsb The least significant 64 bits of ULID
+     * @throws IOException If an I/O error occurs
+     */
+    public void write(long msb, long lsb) throws IOException {
+        if (buffer.remaining() < LINE_LEN) {
+            drain();
+        }
+        int position = buffer.position();
+        ULID.encode(msb, lsb, buffer, position);
+        buffer.put(position + ULID.CANONICAL_STRING_LEN, (byte) '\n');
+        buffer.position(position + LINE_LEN);
+    }
+
+    /**
+     * Write ULIDs of primitive arrays as lines.
+     *
+     * @param msbs The most significant 64 bits of ULIDs
+     * @param lsbs The least significant 64 bits of ULIDs
+     * @param off  The index of first ULID
+     * @param len  The count of ULIDs
+     * @throws IOException If an I/O error occurs
+     */
+    public void write(long[] msbs, long[] lsbs, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, msbs.length);
+        Objects.checkFromIndexSize(off, len, lsbs.length);
+        while (len > 0) {
+            int n = encode(msbs, lsbs, off, len, buffer);
+            off += n;
+            len -= n;
+            if (len > 0) {
+                drain();
+            }
+        }
+    }
+
+    /**
+     * Write all ULIDs of the array as lines.
+     *
+     * @param array The ULID array
+     * @throws IOException If an I/O error occurs
+     */
+    public void write(ULIDArray array) throws IOException {
+        for (int i = 0, size = array.size(); i < size; i++) {
+            write(array.getMostSignificantBits(i), array.getLeastSignificantBits(i));
+        }
+    }
+
+    /**
+     * Write the buffered lines to the channel.
+     *
+     * @throws IOException If an I/O error occurs
+     */
+    @Override
+    public void flush() throws IOException {
+        drain();
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } finally {
+            buffer.compact();
+        }
+    }
+
+    /**
+     * Flush the buffered lines and close the channel.
+     *
+     * @throws IOException If an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
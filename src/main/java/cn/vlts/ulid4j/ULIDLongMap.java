@@ -0,0 +1,184 @@
+package cn.vlts.ulid4j;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Open-addressing hash map from ULID to primitive long, the keys and values are stored inline in
+ * primitive arrays without boxing. This class is not thread-safe.
+ * @since 2026/10/16 14:20
+ */
+public final class ULIDLongMap extends AbstractULIDHashTable {
+
+    private long[] values;
+
+    private long[] oldValues;
+
+    /**
+     * Creates an empty map with default expected size and load factor.
+     */
+    public ULIDLongMap() {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty map which holds the expected count of entries without rehashing.
+     *
+     * @param expectedSize The expected count of entries
+     */
+    public ULIDLongMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty map with the expected size and load factor.
+     *
+     * @param expectedSize The expected count of entries
+     * @param loadFactor   The load factor, between 0 and 1 (both exclusive)
+     */
+    public ULIDLongMap(int expectedSize, float loadFactor) {
+        super(expectedSize, loadFactor);
+        this.values = new long[capacity + 1];
+    }
+
+    public long put(ULID key, long value) {
+        return put(key.getMostSignificantBits(), key.getLeastSignificantBits(), value);
+    }
+
+    /**
+     * Associate the value with the key.
+     *
+     * @param msb   The most significant 64 bits of key
+     * @param lsb   The least significant 64 bits of key
+     * @param value The value
+     * @return The previous value, or 0 if there was no mapping for the key
+     */
+    public long put(long msb, long lsb, long value) {
+        int pos = find(msb, lsb);
+        if (pos >= 0) {
+            long previous = values[pos];
+            values[pos] = value;
+            return previous;
+        }
+        pos = -pos - 1;
+        values[pos] = value;
+        insertAt(pos, msb, lsb);
+        return 0L;
+    }
+
+    /**
+     * Add the delta to the value associated with the key, the absent value is treated as 0.
+     *
+     * @param msb   The most significant 64 bits of key
+     * @param lsb   The least significant 64 bits of key
+     * @param delta The delta
+     * @return The new value
+     */
+    public long addTo(long msb, long lsb, long delta) {
+        int pos = find(msb, lsb);
+        if (pos >= 0) {
+            return values[pos] += delta;
+        }
+        pos = -pos - 1;
+        values[pos] = delta;
+        insertAt(pos, msb, lsb);
+        return delta;
+    }
+
+    public long get(ULID key) {
+        return getOrDefault(key.getMostSignificantBits(), key.getLeastSignificantBits(), 0L);
+    }
+
+    /**
+     * Get the value associated with the key.
+     *
+     * @param msb The most significant 64 bits of key
+     * @param lsb The least significant 64 bits of key
+     * @return The value, or 0 if there is no mapping for the key
+     */
+    public long get(long msb, long lsb) {
+        return getOrDefault(msb, lsb, 0L);
+    }
+
+    /**
+     * Get the value associated with the key.
+     *
+     * @param msb          The most significant 64 bits of key
+     * @param lsb          The least significant 64 bits of key
+     * @param defaultValue The default value
+     * @return The value, or the default value if there is no mapping for the key
+     */
+    public long getOrDefault(long msb, long lsb, long defaultValue) {
+        int pos = find(msb, lsb);
+        return pos >= 0 ? values[pos] : defaultValue;
+    }
+
+    public boolean containsKey(ULID key) {
+        return containsKey(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    public boolean containsKey(long msb, long lsb) {
+        return find(msb, lsb) >= 0;
+    }
+
+    public long remove(ULID key) {
+        return remove(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    /**
+     * Remove the mapping of the key.
+     *
+     * @param msb The most significant 64 bits of key
+     * @param lsb The least significant 64 bits of key
+     * @return The previous value, or 0 if there was no mapping for the key
+     */
+    public long remove(long msb, long lsb) {
+        int pos = find(msb, lsb);
+        if (pos < 0) {
+            return 0L;
+        }
+        long previous = values[pos];
+        removeAt(pos);
+        return previous;
+    }
+
+    /**
+     * Performs the operation on each entry without creating ULID instances, in no particular order.
+     *
+     * @param consumer The consumer
+     */
+    public void forEach(EntryConsumer consumer) {
+        for (int pos = nextSlot(0); pos >= 0; pos = nextSlot(pos + 1)) {
+            consumer.accept(msbs[pos], lsbs[pos], values[pos]);
+        }
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    void beginRehash(int length) {
+        oldValues = values;
+        values = new long[length];
+    }
+
+    @Override
+    void rehashValue(int from, int to) {
+        values[to] = oldValues[from];
+    }
+
+    @Override
+    void endRehash() {
+        oldValues = null;
+    }
+
+    /**
+     * Consumer of entry.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        void accept(long msb, long lsb, long value);
+    }
+}
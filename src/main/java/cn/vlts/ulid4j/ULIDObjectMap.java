@@ -0,0 +1,204 @@
+package cn.vlts.ulid4j;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.function.Function;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Open-addressing hash map from ULID to object, the keys are stored inline in primitive arrays
+ * without boxing. Null values are not permitted. This class is not thread-safe.
+ * @since 2026/10/16 14:20
+ */
+public final class ULIDObjectMap<V> extends AbstractULIDHashTable {
+
+    private Object[] values;
+
+    private Object[] oldValues;
+
+    /**
+     * Creates an empty map with default expected size and load factor.
+     */
+    public ULIDObjectMap() {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty map which holds the expected count of entries without rehashing.
+     *
+     * @param expectedSize The expected count of entries
+     */
+    public ULIDObjectMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty map with the expected size and load factor.
+     *
+     * @param expectedSize The expected count of entries
+     * @param loadFactor   The load factor, between 0 and 1 (both exclusive)
+     */
+    public ULIDObjectMap(int expectedSize, float loadFactor) {
+        super(expectedSize, loadFactor);
+        this.values = new Object[capacity + 1];
+    }
+
+    public V put(ULID key, V value) {
+        return put(key.getMostSignificantBits(), key.getLeastSignificantBits(), value);
+    }
+
+    /**
+     * Associate the value with the key.
+     *
+     * @param msb   The most significant 64 bits of key
+     * @param lsb   The least significant 64 bits of key
+     * @param value The value, not null
+     * @return The previous value, or null if there was no mapping for the key
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long msb, long lsb, V value) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        int pos = find(msb, lsb);
+        if (pos >= 0) {
+            V previous = (V) values[pos];
+            values[pos] = value;
+            return previous;
+        }
+        pos = -pos - 1;
+        values[pos] = value;
+        insertAt(pos, msb, lsb);
+        return null;
+    }
+
+    /**
+     * Get the value associated with the key, or compute and associate the value if there is no mapping for the key.
+     *
+     * @param msb             The most significant 64 bits of key
+     * @param lsb             The least significant 64 bits of key
+     * @param mappingFunction The function to compute the value from the key, returns null to skip the mapping
+     * @return The current value, or null if the computed value is null
+     * @throws ConcurrentModificationException If the mapping function associated the key itself
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(long msb, long lsb, Function<ULID, ? extends V> mappingFunction) {
+        int pos = find(msb, lsb);
+        if (pos >= 0) {
+            return (V) values[pos];
+        }
+        V value = mappingFunction.apply(new ULID(msb, lsb));
+        if (value != null) {
+            // the function may modify this map, so the slot is found again
+            pos = find(msb, lsb);
+            if (pos >= 0) {
+                throw new ConcurrentModificationException("The mapping function associated the key");
+            }
+            pos = -pos - 1;
+            values[pos] = value;
+            insertAt(pos, msb, lsb);
+        }
+        return value;
+    }
+
+    public V get(ULID key) {
+        return get(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    /**
+     * Get the value associated with the key.
+     *
+     * @param msb The most significant 64 bits of key
+     * @param lsb The least significant 64 bits of key
+     * @return The value, or null if there is no mapping for the key
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long msb, long lsb) {
+        int pos = find(msb, lsb);
+        return pos >= 0 ? (V) values[pos] : null;
+    }
+
+    public boolean containsKey(ULID key) {
+        return containsKey(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    public boolean containsKey(long msb, long lsb) {
+        return find(msb, lsb) >= 0;
+    }
+
+    public V remove(ULID key) {
+        return remove(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    /**
+     * Remove the mapping of the key.
+     *
+     * @param msb The most significant 64 bits of key
+     * @param lsb The least significant 64 bits of key
+     * @return The previous value, or null if there was no mapping for the key
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long msb, long lsb) {
+        int pos = find(msb, lsb);
+        if (pos < 0) {
+            return null;
+        }
+        V previous = (V) values[pos];
+        removeAt(pos);
+        return previous;
+    }
+
+    /**
+     * Performs the operation on each entry without creating ULID instances, in no particular order.
+     *
+     * @param consumer The consumer
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> consumer) {
+        for (int pos = nextSlot(0); pos >= 0; pos = nextSlot(pos + 1)) {
+            consumer.accept(msbs[pos], lsbs[pos], (V) values[pos]);
+        }
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        Arrays.fill(values, null);
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    void clearValue(int pos) {
+        values[pos] = null;
+    }
+
+    @Override
+    void beginRehash(int length) {
+        oldValues = values;
+        values = new Object[length];
+    }
+
+    @Override
+    void rehashValue(int from, int to) {
+        values[to] = oldValues[from];
+    }
+
+    @Override
+    void endRehash() {
+        oldValues = null;
+    }
+
+    /**
+     * Consumer of entry.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+
+        void accept(long msb, long lsb, V value);
+    }
+}
@@ -0,0 +1,397 @@
+package cn.vlts.ulid4j;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description LSD radix sort of ULIDs on the most significant 64 bits and the least significant 64 bits, in
+ * ascending order of {@link ULID#compareTo(ULID)}. The 128 bits are sorted in 16 passes of 8 bits, a pass is skipped
+ * if all ULIDs share the same digit, e.g. the high bytes of the timestamp component within a batch. Large inputs
+ * split every pass across the workers of the common fork-join pool, each worker counts and scatters its own
+ * chunk. The sort is stable and takes auxiliary arrays of the same size.
+ * @since 2026/10/16 19:40
+ */
+public final class ULIDSorts {
+
+    private static final int RADIX_BITS = 8;
+
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    private static final int DIGITS = 128 / RADIX_BITS;
+
+    /**
+     * Below this size, the range is sorted with insertion sort
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 64;
+
+    /**
+     * Above this size, the passes are split across fork-join workers
+     */
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
+    /**
+     * The min size of chunk handled by one worker
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 14;
+
+    private ULIDSorts() {
+    }
+
+    /**
+     * Sort the ULIDs in ascending order.
+     *
+     * @param msbs The most significant 64 bits of ULIDs
+     * @param lsbs The least significant 64 bits of ULIDs, of the same length as msbs
+     */
+    public static void sort(long[] msbs, long[] lsbs) {
+        if (msbs.length != lsbs.length) {
+            throw new IllegalArgumentException("Length of msbs and lsbs mismatch");
+        }
+        sort(msbs, lsbs, 0, msbs.length);
+    }
+
+    /**
+     * Sort the ULIDs of the range [from, to) in ascending order.
+     *
+     * @param msbs The most significant 64 bits of ULIDs
+     * @param lsbs The least significant 64 bits of ULIDs
+     * @param from The index of first ULID, inclusive
+     * @param to   The index of last ULID, exclusive
+     */
+    public static void sort(long[] msbs, long[] lsbs, int from, int to) {
+        Objects.checkFromToIndex(from, to, msbs.length);
+        Objects.checkFromToIndex(from, to, lsbs.length);
+        radixSort(msbs, lsbs, null, from, to);
+    }
+
+    /**
+     * Sort the ULIDs in ascending order.
+     *
+     * @param ulids The ULIDs, must not contain null
+     */
+    public static void sort(ULID[] ulids) {
+        sort(ulids, 0, ulids.length);
+    }
+
+    /**
+     * Sort the ULIDs of the range [from, to) in ascending order. The keys are copied into primitive arrays and
+     * sorted with the indexes of ULIDs, so the sort never dereferences ULIDs while comparing.
+     *
+     * @param ulids The ULIDs, must not contain null
+     * @param from  The index of first ULID, inclusive
+     * @param to    The index of last ULID, exclusive
+     */
+    public static void sort(ULID[] ulids, int from, int to) {
+        Objects.checkFromToIndex(from, to, ulids.length);
+        int n = to - from;
+        if (n < 2) {
+            return;
+        }
+        long[] msbs = new long[n];
+        long[] lsbs = new long[n];
+        int[] indexes = new int[n];
+        for (int i = 0; i < n; i++) {
+            ULID ulid = ulids[from + i];
+            msbs[i] = ulid.getMostSignificantBits();
+            lsbs[i] = ulid.getLeastSignificantBits();
+            indexes[i] = i;
+        }
+        radixSort(msbs, lsbs, indexes, 0, n);
+        ULID[] copy = Arrays.copyOfRange(ulids, from, to);
+        for (int i = 0; i < n; i++) {
+            ulids[from + i] = copy[indexes[i]];
+        }
+    }
+
+    private static void radixSort(long[] msbs, long[] lsbs, int[] indexes, int from, int to) {
+        int n = to - from;
+        if (n < 2) {
+            return;
+        }
+        if (n <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(msbs, lsbs, indexes, from, to);
+            return;
+        }
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int chunks = Math.min(parallelism << 2, n / MIN_CHUNK_SIZE);
+        RadixSortTask task = new RadixSortTask(msbs, lsbs, indexes, from, n,
+                n > PARALLEL_SORT_THRESHOLD && parallelism > 1 ? chunks : 1);
+        if (task.chunks > 1) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.compute();
+        }
+    }
+
+    private static void insertionSort(long[] msbs, long[] lsbs, int[] indexes, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long msb = msbs[i];
+            long lsb = lsbs[i];
+            int index = indexes == null ? 0 : indexes[i];
+            int j = i - 1;
+            while (j >= from && ULIDArray.compare(msbs[j], lsbs[j], msb, lsb) > 0) {
+                msbs[j + 1] = msbs[j];
+                lsbs[j + 1] = lsbs[j];
+                if (indexes != null) {
+                    indexes[j + 1] = indexes[j];
+                }
+                j--;
+            }
+            msbs[j + 1] = msb;
+            lsbs[j + 1] = lsb;
+            if (indexes != null) {
+                indexes[j + 1] = index;
+            }
+        }
+    }
+
+    /**
+     * Count the digits of all passes for the range [from, to).
+     */
+    static void countAll(long[] msbs, long[] lsbs, int from, int to, int[][] counts) {
+        for (int i = from; i < to; i++) {
+            long msb = msbs[i];
+            long lsb = lsbs[i];
+            for (int d = 0; d < DIGITS >> 1; d++) {
+                counts[d][(int) (lsb >>> (d << 3)) & (RADIX - 1)]++;
+                counts[d + (DIGITS >> 1)][(int) (msb >>> (d << 3)) & (RADIX - 1)]++;
+            }
+        }
+    }
+
+    /**
+     * The source and destination arrays of a pass, the ranges start at the offsets.
+     */
+    static final class Pass {
+
+        long[] srcMsbs;
+
+        long[] srcLsbs;
+
+        int[] srcIndexes;
+
+        int srcOffset;
+
+        long[] dstMsbs;
+
+        long[] dstLsbs;
+
+        int[] dstIndexes;
+
+        int dstOffset;
+
+        int digit;
+
+        void swap() {
+            long[] msbs = srcMsbs;
+            long[] lsbs = srcLsbs;
+            int[] indexes = srcIndexes;
+            int offset = srcOffset;
+            srcMsbs = dstMsbs;
+            srcLsbs = dstLsbs;
+            srcIndexes = dstIndexes;
+            srcOffset = dstOffset;
+            dstMsbs = msbs;
+            dstLsbs = lsbs;
+            dstIndexes = indexes;
+            dstOffset = offset;
+        }
+
+        /**
+         * Count the digit of the chunk [from, to) relative to the source offset.
+         */
+        void count(int from, int to, int[] counts) {
+            long[] keys = digit < DIGITS >> 1 ? srcLsbs : srcMsbs;
+            int shift = (digit & ((DIGITS >> 1) - 1)) << 3;
+            for (int i = srcOffset + from, end = srcOffset + to; i < end; i++) {
+                counts[(int) (keys[i] >>> shift) & (RADIX - 1)]++;
+            }
+        }
+
+        /**
+         * Scatter the chunk [from, to) relative to the source offset, the offsets are the next positions of every
+         * bucket relative to the destination offset.
+         */
+        void scatter(int from, int to, int[] offsets) {
+            long[] keys = digit < DIGITS >> 1 ? srcLsbs : srcMsbs;
+            int shift = (digit & ((DIGITS >> 1) - 1)) << 3;
+            long[] sm = srcMsbs;
+            long[] sl = srcLsbs;
+            long[] dm = dstMsbs;
+            long[] dl = dstLsbs;
+            int dstBase = dstOffset;
+            if (srcIndexes == null) {
+                for (int i = srcOffset + from, end = srcOffset + to; i < end; i++) {
+                    int pos = dstBase + offsets[(int) (keys[i] >>> shift) & (RADIX - 1)]++;
+                    dm[pos] = sm[i];
+                    dl[pos] = sl[i];
+                }
+            } else {
+                int[] si = srcIndexes;
+                int[] di = dstIndexes;
+                for (int i = srcOffset + from, end = srcOffset + to; i < end; i++) {
+                    int pos = dstBase + offsets[(int) (keys[i] >>> shift) & (RADIX - 1)]++;
+                    dm[pos] = sm[i];
+                    dl[pos] = sl[i];
+                    di[pos] = si[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Radix sort of the range [from, from + n), every pass is split into chunks which are counted and scattered
+     * by fork-join workers if there are more than one chunk.
+     */
+    static final class RadixSortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] msbs;
+
+        private final long[] lsbs;
+
+        private final int[] indexes;
+
+        private final int from;
+
+        private final int n;
+
+        final int chunks;
+
+        RadixSortTask(long[] msbs, long[] lsbs, int[] indexes, int from, int n, int chunks) {
+            this.msbs = msbs;
+            this.lsbs = lsbs;
+            this.indexes = indexes;
+            this.from = from;
+            this.n = n;
+            this.chunks = Math.max(1, chunks);
+        }
+
+        @Override
+        protected void compute() {
+            int[][] totals = new int[DIGITS][RADIX];
+            if (chunks > 1) {
+                int[][][] allCounts = new int[chunks][DIGITS][RADIX];
+                ChunkTask[] tasks = new ChunkTask[chunks];
+                for (int c = 0; c < chunks; c++) {
+                    int[][] counts = allCounts[c];
+                    int chunkFrom = from + chunkFrom(c);
+                    int chunkTo = from + chunkTo(c);
+                    tasks[c] = new ChunkTask(() -> countAll(msbs, lsbs, chunkFrom, chunkTo, counts));
+                }
+                invokeAll(tasks);
+                for (int[][] counts : allCounts) {
+                    for (int d = 0; d < DIGITS; d++) {
+                        for (int b = 0; b < RADIX; b++) {
+                            totals[d][b] += counts[d][b];
+                        }
+                    }
+                }
+            } else {
+                countAll(msbs, lsbs, from, from + n, totals);
+            }
+            int[][] chunkCounts = new int[chunks][RADIX];
+            Pass pass = new Pass();
+            pass.srcMsbs = msbs;
+            pass.srcLsbs = lsbs;
+            pass.srcIndexes = indexes;
+            pass.srcOffset = from;
+            pass.dstMsbs = new long[n];
+            pass.dstLsbs = new long[n];
+            pass.dstIndexes = indexes == null ? null : new int[n];
+            pass.dstOffset = 0;
+            for (int d = 0; d < DIGITS; d++) {
+                if (isConstant(totals[d])) {
+                    continue;
+                }
+                pass.digit = d;
+                if (chunks > 1) {
+                    parallelPass(pass, chunkCounts);
+                } else {
+                    int[] offsets = new int[RADIX];
+                    for (int b = 0, sum = 0; b < RADIX; b++) {
+                        offsets[b] = sum;
+                        sum += totals[d][b];
+                    }
+                    pass.scatter(0, n, offsets);
+                }
+                pass.swap();
+            }
+            if (pass.srcMsbs != msbs) {
+                System.arraycopy(pass.srcMsbs, 0, msbs, from, n);
+                System.arraycopy(pass.srcLsbs, 0, lsbs, from, n);
+                if (indexes != null) {
+                    System.arraycopy(pass.srcIndexes, 0, indexes, from, n);
+                }
+            }
+        }
+
+        private void parallelPass(Pass pass, int[][] chunkCounts) {
+            ChunkTask[] tasks = new ChunkTask[chunks];
+            for (int c = 0; c < chunks; c++) {
+                int[] counts = chunkCounts[c];
+                Arrays.fill(counts, 0);
+                int chunkFrom = chunkFrom(c);
+                int chunkTo = chunkTo(c);
+                tasks[c] = new ChunkTask(() -> pass.count(chunkFrom, chunkTo, counts));
+            }
+            invokeAll(tasks);
+            // the chunks of a bucket are laid out in chunk order, so the pass is stable
+            for (int b = 0, sum = 0; b < RADIX; b++) {
+                for (int c = 0; c < chunks; c++) {
+                    int count = chunkCounts[c][b];
+                    chunkCounts[c][b] = sum;
+                    sum += count;
+                }
+            }
+            for (int c = 0; c < chunks; c++) {
+                int[] offsets = chunkCounts[c];
+                int chunkFrom = chunkFrom(c);
+                int chunkTo = chunkTo(c);
+                tasks[c] = new ChunkTask(() -> pass.scatter(chunkFrom, chunkTo, offsets));
+            }
+            invokeAll(tasks);
+        }
+
+        private int chunkFrom(int c) {
+            return (int) ((long) n * c / chunks);
+        }
+
+        private int chunkTo(int c) {
+            return (int) ((long) n * (c + 1) / chunks);
+        }
+
+        private boolean isConstant(int[] counts) {
+            for (int count : counts) {
+                if (count != 0) {
+                    return count == n;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Work on one chunk of a pass.
+     */
+    static final class ChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Runnable work;
+
+        ChunkTask(Runnable work) {
+            this.work = work;
+        }
+
+        @Override
+        protected void compute() {
+            work.run();
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package cn.vlts.ulid4j;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Spliterator of generated ULIDs, the ULIDs can also be traversed in the primitive form of the most
+ * significant 64 bits and the least significant 64 bits through {@link ULIDConsumer} without creating ULID
+ * instances. The splits never overlap, so parallel streams scale across fork-join workers.
+ * @since 2026/10/16 17:40
+ */
+public abstract class ULIDSpliterator implements Spliterator.OfPrimitive<ULID, ULIDConsumer, ULIDSpliterator> {
+
+    ULIDSpliterator() {
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super ULID> action) {
+        Objects.requireNonNull(action);
+        return tryAdvance((ULIDConsumer) (msb, lsb) -> action.accept(new ULID(msb, lsb)));
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super ULID> action) {
+        Objects.requireNonNull(action);
+        forEachRemaining((ULIDConsumer) (msb, lsb) -> action.accept(new ULID(msb, lsb)));
+    }
+
+    @Override
+    public Comparator<? super ULID> getComparator() {
+        if (hasCharacteristics(SORTED)) {
+            return null;
+        }
+        throw new IllegalStateException();
+    }
+
+    /**
+     * Spliterator of a contiguous block of ULIDs reserved from a monotonic factory, the i-th ULID is the first ULID
+     * plus i. Every split covers a sub-range of the block.
+     */
+    static final class BlockSpliterator extends ULIDSpliterator {
+
+        private final long firstMsb;
+
+        private final long firstLsb;
+
+        private long index;
+
+        private final long fence;
+
+        BlockSpliterator(long firstMsb, long firstLsb, long index, long fence) {
+            this.firstMsb = firstMsb;
+            this.firstLsb = firstLsb;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(ULIDConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            long lsb = firstLsb + index;
+            action.accept(Long.compareUnsigned(lsb, firstLsb) < 0 ? firstMsb + 1 : firstMsb, lsb);
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(ULIDConsumer action) {
+            if (index >= fence) {
+                return;
+            }
+            long lsb = firstLsb + index;
+            long msb = Long.compareUnsigned(lsb, firstLsb) < 0 ? firstMsb + 1 : firstMsb;
+            for (long i = index; i < fence; i++) {
+                action.accept(msb, lsb);
+                if (++lsb == 0L) {
+                    msb += 1;
+                }
+            }
+            index = fence;
+        }
+
+        @Override
+        public ULIDSpliterator trySplit() {
+            long mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            ULIDSpliterator prefix = new BlockSpliterator(firstMsb, firstLsb, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SORTED | DISTINCT | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+
+    /**
+     * Spliterator of ULIDs over a timestamp range, every millisecond gets a fixed count of ULIDs, the first one with
+     * fresh randomness and the others incremented from it. Every split covers whole milliseconds except the prefix
+     * which may continue a partially traversed millisecond.
+     */
+    static final class TimestampRangeSpliterator extends ULIDSpliterator {
+
+        private final DefaultULIDFactory factory;
+
+        private final int perMillisecond;
+
+        private long timestamp;
+
+        private final long endTimestamp;
+
+        /**
+         * The count of ULIDs traversed in the current millisecond
+         */
+        private int count;
+
+        private long msb;
+
+        private long lsb;
+
+        TimestampRangeSpliterator(DefaultULIDFactory factory, long timestamp, long endTimestamp, int perMillisecond) {
+            this.factory = factory;
+            this.timestamp = timestamp;
+            this.endTimestamp = endTimestamp;
+            this.perMillisecond = perMillisecond;
+        }
+
+        @Override
+        public boolean tryAdvance(ULIDConsumer action) {
+            if (timestamp >= endTimestamp) {
+                return false;
+            }
+            advance();
+            action.accept(msb, lsb);
+            if (count == perMillisecond) {
+                count = 0;
+                timestamp++;
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(ULIDConsumer action) {
+            while (timestamp < endTimestamp) {
+                while (count < perMillisecond) {
+                    advance();
+                    action.accept(msb, lsb);
+                }
+                count = 0;
+                timestamp++;
+            }
+        }
+
+        private void advance() {
+            if (count == 0) {
+                ULID first = factory.randomULID(timestamp);
+                msb = first.getMostSignificantBits();
+                lsb = first.getLeastSignificantBits();
+            } else if (++lsb == 0L) {
+                msb += 1;
+            }
+            count++;
+        }
+
+        @Override
+        public ULIDSpliterator trySplit() {
+            long start = count == 0 ? timestamp : timestamp + 1;
+            long mid = (start + endTimestamp) >>> 1;
+            if (mid <= start) {
+                return null;
+            }
+            TimestampRangeSpliterator prefix = new TimestampRangeSpliterator(factory, timestamp, mid, perMillisecond);
+            prefix.count = count;
+            prefix.msb = msb;
+            prefix.lsb = lsb;
+            timestamp = mid;
+            count = 0;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return (endTimestamp - timestamp) * perMillisecond - count;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SORTED | DISTINCT | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+
+    /**
+     * Spliterator of a count of ULIDs generated by a factory one by one, it keeps no order.
+     */
+    static final class GeneratingSpliterator extends ULIDSpliterator {
+
+        private final ULIDFactory factory;
+
+        private long remaining;
+
+        GeneratingSpliterator(ULIDFactory factory, long remaining) {
+            this.factory = factory;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean tryAdvance(ULIDConsumer action) {
+            if (remaining <= 0) {
+                return false;
+            }
+            ULID ulid = factory.ulid();
+            action.accept(ulid.getMostSignificantBits(), ulid.getLeastSignificantBits());
+            remaining--;
+            return true;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super ULID> action) {
+            if (remaining <= 0) {
+                return false;
+            }
+            action.accept(factory.ulid());
+            remaining--;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(ULIDConsumer action) {
+            while (tryAdvance(action)) {
+                // generate the remaining ULIDs
+            }
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super ULID> action) {
+            while (tryAdvance(action)) {
+                // generate the remaining ULIDs
+            }
+        }
+
+        @Override
+        public ULIDSpliterator trySplit() {
+            long half = remaining >>> 1;
+            if (half == 0) {
+                return null;
+            }
+            remaining -= half;
+            return new GeneratingSpliterator(factory, half);
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+}
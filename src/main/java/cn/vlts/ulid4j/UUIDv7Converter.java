@@ -0,0 +1,263 @@
+package cn.vlts.ulid4j;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Converters between ULID and UUID version 7 of RFC 9562. Both share the 48 bits unix timestamp in
+ * milliseconds, but a UUIDv7 holds the version 0b0111 and the variant 0b10 in 6 bits which are randomness in ULID.
+ * <pre>
+ * ULID   | timestamp (48) | randomness (16)         | randomness (64)                 |
+ * UUIDv7 | timestamp (48) | ver (4) | rand_a (12)   | var (2) | rand_b (62)           |
+ * </pre>
+ * Every UUIDv7 is a valid ULID as is. A ULID loses 6 bits of randomness when it is converted to a UUIDv7, how they are
+ * lost is defined by {@link LossPolicy}. The conversions work on single values and in place over primitive arrays
+ * without creating any object.
+ * @since 2026/10/17 01:00
+ */
+public final class UUIDv7Converter {
+
+    /**
+     * The version and variant of UUIDv7
+     */
+    static final long VERSION = 0x7000L;
+
+    static final long VERSION_MASK = 0xf000L;
+
+    static final long VARIANT = 0x8000000000000000L;
+
+    static final long VARIANT_MASK = 0xc000000000000000L;
+
+    /**
+     * The mask of rand_b
+     */
+    static final long RAND_B_MASK = ~VARIANT_MASK;
+
+    /**
+     * The mask of rand_a
+     */
+    static final long RAND_A_MASK = 0x0fffL;
+
+    private UUIDv7Converter() {
+    }
+
+    /**
+     * Policy of the 6 randomness bits of ULID replaced by the version and variant of UUIDv7.
+     */
+    public enum LossPolicy {
+
+        /**
+         * Keep the lowest 74 bits of randomness in order and drop the highest 6 bits. ULIDs of the same millisecond
+         * which differ only in the lowest 74 bits, e.g. the increments of a monotonic factory, keep their order.
+         * Converting back restores the lowest 74 bits, the highest 6 bits become zero.
+         */
+        TRUNCATE,
+
+        /**
+         * Overwrite the 6 bits at the positions of version and variant, the other bits stay at their positions.
+         * Converting back returns the UUIDv7 bits as they are.
+         */
+        OVERWRITE,
+
+        /**
+         * Reject ULIDs which are not valid UUIDv7 already, so no bit is lost. Converting back returns the UUIDv7 bits
+         * as they are.
+         */
+        STRICT
+    }
+
+    /**
+     * Check if the bits hold the version and variant of UUIDv7.
+     *
+     * @param msb The most significant 64 bits
+     * @param lsb The least significant 64 bits
+     * @return true if the bits are a UUIDv7
+     */
+    public static boolean isUUIDv7(long msb, long lsb) {
+        return (msb & VERSION_MASK) == VERSION && (lsb & VARIANT_MASK) == VARIANT;
+    }
+
+    public static boolean isUUIDv7(UUID uuid) {
+        return isUUIDv7(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public static boolean isUUIDv7(ULID ulid) {
+        return isUUIDv7(ulid.getMostSignificantBits(), ulid.getLeastSignificantBits());
+    }
+
+    /**
+     * Convert a ULID to a UUIDv7.
+     *
+     * @param ulid   The ULID
+     * @param policy The loss policy
+     * @return A new UUIDv7
+     * @throws IllegalArgumentException If the policy is strict and the ULID is not a valid UUIDv7
+     */
+    public static UUID toUUIDv7(ULID ulid, LossPolicy policy) {
+        long msb = ulid.getMostSignificantBits();
+        long lsb = ulid.getLeastSignificantBits();
+        return new UUID(toUUIDv7Msb(msb, lsb, policy), toUUIDv7Lsb(msb, lsb, policy));
+    }
+
+    /**
+     * Convert a UUIDv7 to a ULID.
+     *
+     * @param uuid   The UUIDv7
+     * @param policy The loss policy the UUIDv7 was converted with
+     * @return A new ULID
+     * @throws IllegalArgumentException If the UUID is not a UUIDv7
+     */
+    public static ULID toULID(UUID uuid, LossPolicy policy) {
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        return new ULID(toULIDMsb(msb, lsb, policy), toULIDLsb(msb, lsb, policy));
+    }
+
+    /**
+     * Compute the most significant 64 bits of the UUIDv7 converted from a ULID.
+     *
+     * @param msb    The most significant 64 bits of ULID
+     * @param lsb    The least significant 64 bits of ULID
+     * @param policy The loss policy
+     * @return The most significant 64 bits of UUIDv7
+     * @throws IllegalArgumentException If the policy is strict and the ULID is not a valid UUIDv7
+     */
+    public static long toUUIDv7Msb(long msb, long lsb, LossPolicy policy) {
+        switch (policy) {
+            case TRUNCATE:
+                return (msb & ~0xffffL) | VERSION | ((msb & 0x03ffL) << 2) | (lsb >>> 62);
+            case OVERWRITE:
+                return (msb & ~VERSION_MASK) | VERSION;
+            default:
+                checkStrict(msb, lsb);
+                return msb;
+        }
+    }
+
+    /**
+     * Compute the least significant 64 bits of the UUIDv7 converted from a ULID.
+     *
+     * @param msb    The most significant 64 bits of ULID
+     * @param lsb    The least significant 64 bits of ULID
+     * @param policy The loss policy
+     * @return The least significant 64 bits of UUIDv7
+     * @throws IllegalArgumentException If the policy is strict and the ULID is not a valid UUIDv7
+     */
+    public static long toUUIDv7Lsb(long msb, long lsb, LossPolicy policy) {
+        if (Objects.requireNonNull(policy) == LossPolicy.STRICT) {
+            checkStrict(msb, lsb);
+            return lsb;
+        }
+        // both truncate and overwrite keep rand_b at its position
+        return (lsb & RAND_B_MASK) | VARIANT;
+    }
+
+    /**
+     * Compute the most significant 64 bits of the ULID converted from a UUIDv7.
+     *
+     * @param msb    The most significant 64 bits of UUIDv7
+     * @param lsb    The least significant 64 bits of UUIDv7
+     * @param policy The loss policy the UUIDv7 was converted with
+     * @return The most significant 64 bits of ULID
+     * @throws IllegalArgumentException If the bits are not a UUIDv7
+     */
+    public static long toULIDMsb(long msb, long lsb, LossPolicy policy) {
+        checkUUIDv7(msb, lsb);
+        if (Objects.requireNonNull(policy) == LossPolicy.TRUNCATE) {
+            return (msb & ~0xffffL) | ((msb & RAND_A_MASK) >>> 2);
+        }
+        return msb;
+    }
+
+    /**
+     * Compute the least significant 64 bits of the ULID converted from a UUIDv7.
+     *
+     * @param msb    The most significant 64 bits of UUIDv7
+     * @param lsb    The least significant 64 bits of UUIDv7
+     * @param policy The loss policy the UUIDv7 was converted with
+     * @return The least significant 64 bits of ULID
+     * @throws IllegalArgumentException If the bits are not a UUIDv7
+     */
+    public static long toULIDLsb(long msb, long lsb, LossPolicy policy) {
+        checkUUIDv7(msb, lsb);
+        if (Objects.requireNonNull(policy) == LossPolicy.TRUNCATE) {
+            return (msb << 62) | (lsb & RAND_B_MASK);
+        }
+        return lsb;
+    }
+
+    /**
+     * Convert ULIDs to UUIDv7 in place. If the policy is strict, all ULIDs are checked before any is converted.
+     *
+     * @param msbs   The most significant 64 bits of ULIDs
+     * @param lsbs   The least significant 64 bits of ULIDs
+     * @param off    The offset of the first ULID
+     * @param n      The count of ULIDs
+     * @param policy The loss policy
+     * @throws IllegalArgumentException If the policy is strict and any ULID is not a valid UUIDv7
+     */
+    public static void toUUIDv7(long[] msbs, long[] lsbs, int off, int n, LossPolicy policy) {
+        Objects.checkFromIndexSize(off, n, msbs.length);
+        Objects.checkFromIndexSize(off, n, lsbs.length);
+        switch (policy) {
+            case TRUNCATE:
+                for (int i = off, end = off + n; i < end; i++) {
+                    long msb = msbs[i];
+                    long lsb = lsbs[i];
+                    msbs[i] = (msb & ~0xffffL) | VERSION | ((msb & 0x03ffL) << 2) | (lsb >>> 62);
+                    lsbs[i] = (lsb & RAND_B_MASK) | VARIANT;
+                }
+                break;
+            case OVERWRITE:
+                for (int i = off, end = off + n; i < end; i++) {
+                    msbs[i] = (msbs[i] & ~VERSION_MASK) | VERSION;
+                    lsbs[i] = (lsbs[i] & RAND_B_MASK) | VARIANT;
+                }
+                break;
+            default:
+                for (int i = off, end = off + n; i < end; i++) {
+                    checkStrict(msbs[i], lsbs[i]);
+                }
+        }
+    }
+
+    /**
+     * Convert UUIDv7 to ULIDs in place, all UUIDs are checked before any is converted.
+     *
+     * @param msbs   The most significant 64 bits of UUIDv7
+     * @param lsbs   The least significant 64 bits of UUIDv7
+     * @param off    The offset of the first UUIDv7
+     * @param n      The count of UUIDv7
+     * @param policy The loss policy the UUIDv7 were converted with
+     * @throws IllegalArgumentException If any UUID is not a UUIDv7
+     */
+    public static void toULID(long[] msbs, long[] lsbs, int off, int n, LossPolicy policy) {
+        Objects.checkFromIndexSize(off, n, msbs.length);
+        Objects.checkFromIndexSize(off, n, lsbs.length);
+        Objects.requireNonNull(policy);
+        for (int i = off, end = off + n; i < end; i++) {
+            checkUUIDv7(msbs[i], lsbs[i]);
+        }
+        if (policy == LossPolicy.TRUNCATE) {
+            for (int i = off, end = off + n; i < end; i++) {
+                long msb = msbs[i];
+                msbs[i] = (msb & ~0xffffL) | ((msb & RAND_A_MASK) >>> 2);
+                lsbs[i] = (msb << 62) | (lsbs[i] & RAND_B_MASK);
+            }
+        }
+    }
+
+    private static void checkStrict(long msb, long lsb) {
+        if (!isUUIDv7(msb, lsb)) {
+            throw new IllegalArgumentException("Invalid ULID for UUIDv7, the version and variant bits are not set");
+        }
+    }
+
+    private static void checkUUIDv7(long msb, long lsb) {
+        if (!isUUIDv7(msb, lsb)) {
+            throw new IllegalArgumentException("Invalid UUIDv7");
+        }
+    }
+}
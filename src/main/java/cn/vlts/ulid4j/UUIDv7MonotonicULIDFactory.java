@@ -0,0 +1,80 @@
+package cn.vlts.ulid4j;
+
+import java.util.function.LongSupplier;
+
+import static cn.vlts.ulid4j.UUIDv7Converter.RAND_A_MASK;
+import static cn.vlts.ulid4j.UUIDv7Converter.RAND_B_MASK;
+import static cn.vlts.ulid4j.UUIDv7Converter.VARIANT;
+import static cn.vlts.ulid4j.UUIDv7Converter.VERSION;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Monotonic ULID factory whose ULIDs are valid UUIDv7 too, the version and variant bits are fixed and
+ * the remaining 74 bits are monotonic randomness, like the monotonic random method of RFC 9562.
+ * <pre>
+ * | timestamp (48) | ver (4) | rand_a (12) | var (2) | rand_b (62) |
+ * </pre>
+ * ULIDs of the same factory are strictly monotonic, both as ULIDs and as UUIDs. The increment never carries into the
+ * version or variant bits, if rand_b is exhausted, rand_a is incremented, if both are exhausted, the timestamp is
+ * advanced by one and the randomness restarts from zero.
+ * @since 2026/10/17 01:00
+ */
+final class UUIDv7MonotonicULIDFactory extends AbstractMonotonicULIDFactory {
+
+    UUIDv7MonotonicULIDFactory(LongSupplier timestampSupplier,
+                               RandomnessSource randomnessSource,
+                               ULIDFactoryMetrics metrics) {
+        super(timestampSupplier, randomnessSource, metrics);
+        initLastULID(randomULID(0L));
+    }
+
+    @Override
+    public ULIDSpliterator spliterator(long n) {
+        if (n > RAND_B_MASK + 1) {
+            throw new IllegalArgumentException("Invalid count of ULID, it must not be greater than 2 ^ 62");
+        }
+        return super.spliterator(n);
+    }
+
+    @Override
+    ULID randomULID(long timestamp) {
+        RandomnessSource source = randomnessSource;
+        return new ULID(timestamp, (short) ((source.nextShort() & RAND_A_MASK) | VERSION),
+                (source.nextLong() & RAND_B_MASK) | VARIANT);
+    }
+
+    @Override
+    ULID nextULID(ULID last, long timestamp) {
+        if (timestamp <= last.getTimestamp()) {
+            if ((last.getLeastSignificantBits() & RAND_B_MASK) != RAND_B_MASK) {
+                return last.increment();
+            }
+            return nextRandA(last);
+        }
+        return randomULID(timestamp);
+    }
+
+    /**
+     * The block never crosses the variant bits, so the ULIDs of the block are plain increments of the first.
+     */
+    @Override
+    ULID fitBlock(ULID first, long n) {
+        if ((first.getLeastSignificantBits() & RAND_B_MASK) > RAND_B_MASK - (n - 1)) {
+            return nextRandA(first);
+        }
+        return first;
+    }
+
+    /**
+     * The first ULID after a ULID whose rand_b is skipped, rand_b restarts from zero. If rand_a is exhausted too,
+     * the timestamp is advanced and the randomness restarts from zero.
+     */
+    private static ULID nextRandA(ULID ulid) {
+        long msb = ulid.getMostSignificantBits();
+        if ((msb & RAND_A_MASK) != RAND_A_MASK) {
+            return new ULID(msb + 1, VARIANT);
+        }
+        return new ULID(((ulid.getTimestamp() + 1) << 16) | VERSION, VARIANT);
+    }
+}
@@ -0,0 +1,52 @@
+package cn.vlts.ulid4j.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Run the benchmark suite once per thread count with the GC profiler, which reports the allocated
+ * bytes per operation as {@code gc.alloc.rate.norm}. The results of every thread count are written as JSON to
+ * {@code <output>/jmh-threads-<n>.json}, so runs can be compared by tools. Configured by system properties:
+ * <ul>
+ * <li>{@code ulid4j.benchmark.threads}, comma separated thread counts, default {@code 1,2,4,8,16,32,64}</li>
+ * <li>{@code ulid4j.benchmark.include}, regular expression of benchmarks, default all benchmarks of this
+ * package</li>
+ * <li>{@code ulid4j.benchmark.output}, directory of results, default {@code target/benchmark}</li>
+ * </ul>
+ * Run it with {@code mvn -Pbenchmark test}.
+ * @since 2026/10/16 18:50
+ */
+public class BenchmarkRunner {
+
+    static final String DEFAULT_THREADS = "1,2,4,8,16,32,64";
+
+    static final String DEFAULT_INCLUDE = BenchmarkRunner.class.getPackage().getName() + "\\..*";
+
+    static final String DEFAULT_OUTPUT = "target/benchmark";
+
+    public static void main(String[] args) throws Exception {
+        String threads = System.getProperty("ulid4j.benchmark.threads", DEFAULT_THREADS);
+        String include = System.getProperty("ulid4j.benchmark.include", DEFAULT_INCLUDE);
+        File output = new File(System.getProperty("ulid4j.benchmark.output", DEFAULT_OUTPUT));
+        if (!output.isDirectory() && !output.mkdirs()) {
+            throw new IllegalStateException("Create output directory failed: " + output);
+        }
+        for (String value : threads.split(",")) {
+            int n = Integer.parseInt(value.trim());
+            ChainedOptionsBuilder builder = new OptionsBuilder()
+                    .include(include)
+                    .threads(n)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(new File(output, "jmh-threads-" + n + ".json").getPath());
+            new Runner(builder.build()).run();
+        }
+    }
+}
@@ -24,14 +24,19 @@ import java.util.concurrent.TimeUnit;
 @OutputTimeUnit(TimeUnit.MILLISECONDS)
 public class BenchmarkTest {
 
+    static final int BATCH_SIZE = 1000;
+
     static ULIDFactory U;
 
     static ULIDFactory M;
 
+    static ULIDFactory S;
+
     @Setup
     public void setup() {
         U = ULIDFactory.factory();
         M = ULIDFactory.monotonicFactory();
+        S = ULIDFactory.stripedMonotonicFactory();
     }
 
     @Benchmark
@@ -64,6 +69,45 @@ public class BenchmarkTest {
         return M.ulid().toString();
     }
 
+    @Benchmark
+    public ULID createStripedMonotonicULID() {
+        return S.ulid();
+    }
+
+    @Benchmark
+    public String createStripedMonotonicULIDToString() {
+        return S.ulid().toString();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long[] createULIDBatch(Batch batch) {
+        U.fill(batch.msbs, batch.lsbs, 0, BATCH_SIZE);
+        return batch.lsbs;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long[] createMonotonicULIDBatch(Batch batch) {
+        M.fill(batch.msbs, batch.lsbs, 0, BATCH_SIZE);
+        return batch.lsbs;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long[] createStripedMonotonicULIDBatch(Batch batch) {
+        S.fill(batch.msbs, batch.lsbs, 0, BATCH_SIZE);
+        return batch.lsbs;
+    }
+
+    @State(Scope.Thread)
+    public static class Batch {
+
+        long[] msbs = new long[BATCH_SIZE];
+
+        long[] lsbs = new long[BATCH_SIZE];
+    }
+
     public static void main(String[] args) throws Exception {
         new Runner(new OptionsBuilder().build()).run();
     }
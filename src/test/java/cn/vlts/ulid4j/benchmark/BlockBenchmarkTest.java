@@ -0,0 +1,96 @@
+package cn.vlts.ulid4j.benchmark;
+
+import cn.vlts.ulid4j.ULID;
+import cn.vlts.ulid4j.ULIDBlockReader;
+import cn.vlts.ulid4j.ULIDBlockWriter;
+import cn.vlts.ulid4j.ULIDFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Benchmark of the delta-compressed block format against the 16 bytes binary form, the ULIDs are
+ * created by a monotonic factory whose clock ticks every {@code perMillisecond} ULIDs
+ * @since 2026/10/16 21:40
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BlockBenchmarkTest {
+
+    static final int SIZE = ULIDBlockWriter.DEFAULT_BLOCK_SIZE;
+
+    @Param({"1", "16", "4096"})
+    int perMillisecond;
+
+    long[] msbs = new long[SIZE];
+
+    long[] lsbs = new long[SIZE];
+
+    ByteBuffer block = ByteBuffer.allocate(ULIDBlockWriter.maxBlockLength(SIZE));
+
+    ByteBuffer binary = ByteBuffer.allocate(SIZE * ULID.BINARY_BYTE_LEN);
+
+    @Setup
+    public void setup() {
+        long[] clock = {System.currentTimeMillis()};
+        int[] ticks = {0};
+        ULIDFactory factory = ULIDFactory.monotonicFactory(() -> ticks[0]++ % perMillisecond == 0 ? ++clock[0] : clock[0],
+                ULIDFactory.DEFAULT_RANDOMNESS_SOURCE);
+        for (int i = 0; i < SIZE; i++) {
+            ULID ulid = factory.ulid();
+            msbs[i] = ulid.getMostSignificantBits();
+            lsbs[i] = ulid.getLeastSignificantBits();
+        }
+        encodeBlock();
+        encodeBinary();
+        System.out.println();
+        System.out.println("block: " + block.position() + " bytes, binary: " + SIZE * ULID.BINARY_BYTE_LEN + " bytes");
+    }
+
+    @Benchmark
+    public ByteBuffer encodeBlock() {
+        block.clear();
+        ULIDBlockWriter.encode(msbs, lsbs, 0, SIZE, block);
+        return block;
+    }
+
+    @Benchmark
+    public long[] decodeBlock() {
+        block.rewind();
+        ULIDBlockReader.decode(block, msbs, lsbs, 0);
+        return lsbs;
+    }
+
+    @Benchmark
+    public ByteBuffer encodeBinary() {
+        binary.clear();
+        for (int i = 0; i < SIZE; i++) {
+            binary.putLong(msbs[i]).putLong(lsbs[i]);
+        }
+        return binary;
+    }
+
+    @Benchmark
+    public long[] decodeBinary() {
+        binary.rewind();
+        for (int i = 0; i < SIZE; i++) {
+            msbs[i] = binary.getLong();
+            lsbs[i] = binary.getLong();
+        }
+        return lsbs;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(BlockBenchmarkTest.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,98 @@
+package cn.vlts.ulid4j.benchmark;
+
+import cn.vlts.ulid4j.ULID;
+import cn.vlts.ulid4j.ULIDCodec;
+import cn.vlts.ulid4j.ULIDFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Benchmark of encoding and decoding, the ULIDs are created up front so only the codec is measured
+ * @since 2026/10/16 18:50
+ */
+@Fork(1)
+@Threads(10)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 5, time = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CodecBenchmarkTest {
+
+    static final int SIZE = 1024;
+
+    @State(Scope.Thread)
+    public static class Data {
+
+        ULID[] ulids = new ULID[SIZE];
+
+        String[] strings = new String[SIZE];
+
+        String[] lowercaseStrings = new String[SIZE];
+
+        byte[][] bytes = new byte[SIZE][];
+
+        byte[] buffer = new byte[ULID.CANONICAL_STRING_LEN];
+
+        int index;
+
+        @Setup
+        public void setup() {
+            ULIDFactory factory = ULIDFactory.factory();
+            for (int i = 0; i < SIZE; i++) {
+                ulids[i] = factory.ulid();
+                strings[i] = ulids[i].toString();
+                lowercaseStrings[i] = ULIDCodec.CROCKFORD_LOWERCASE.encode(ulids[i]);
+                bytes[i] = ulids[i].toBytes();
+            }
+        }
+
+        int next() {
+            return index = (index + 1) & (SIZE - 1);
+        }
+    }
+
+    @Benchmark
+    public String encodeToString(Data data) {
+        return data.ulids[data.next()].toString();
+    }
+
+    @Benchmark
+    public byte[] encodeToBytes(Data data) {
+        data.ulids[data.next()].encode(data.buffer, 0);
+        return data.buffer;
+    }
+
+    @Benchmark
+    public ULID decodeFromString(Data data) {
+        return ULID.fromString(data.strings[data.next()]);
+    }
+
+    @Benchmark
+    public String encodeToLowercaseString(Data data) {
+        return ULIDCodec.CROCKFORD_LOWERCASE.encode(data.ulids[data.next()]);
+    }
+
+    @Benchmark
+    public ULID decodeFromLowercaseString(Data data) {
+        return ULID.fromString(data.lowercaseStrings[data.next()]);
+    }
+
+    @Benchmark
+    public byte[] toBinary(Data data) {
+        return data.ulids[data.next()].toBytes();
+    }
+
+    @Benchmark
+    public ULID fromBinary(Data data) {
+        return ULID.fromBytes(data.bytes[data.next()]);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(CodecBenchmarkTest.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,73 @@
+package cn.vlts.ulid4j.benchmark;
+
+import cn.vlts.ulid4j.ULID;
+import cn.vlts.ulid4j.ULIDFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Benchmark of compareTo, hashCode and equals, half of the pairs share the timestamp component and
+ * half of the equality checks hit equal ULIDs
+ * @since 2026/10/16 18:50
+ */
+@Fork(1)
+@Threads(10)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 5, time = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ComparisonBenchmarkTest {
+
+    static final int SIZE = 1024;
+
+    @State(Scope.Thread)
+    public static class Data {
+
+        ULID[] ulids = new ULID[SIZE];
+
+        ULID[] others = new ULID[SIZE];
+
+        int index;
+
+        @Setup
+        public void setup() {
+            ULIDFactory factory = ULIDFactory.monotonicFactory();
+            for (int i = 0; i < SIZE; i++) {
+                ulids[i] = factory.ulid(1000L + (i >> 1));
+            }
+            for (int i = 0; i < SIZE; i++) {
+                others[i] = (i & 1) == 0 ? ULID.fromString(ulids[i].toString()) : ulids[SIZE - 1 - i];
+            }
+        }
+
+        int next() {
+            return index = (index + 1) & (SIZE - 1);
+        }
+    }
+
+    @Benchmark
+    public int compareULID(Data data) {
+        int i = data.next();
+        return data.ulids[i].compareTo(data.ulids[i ^ 1]);
+    }
+
+    @Benchmark
+    public int hashULID(Data data) {
+        return data.ulids[data.next()].hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsULID(Data data) {
+        int i = data.next();
+        return data.ulids[i].equals(data.others[i]);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(ComparisonBenchmarkTest.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,92 @@
+package cn.vlts.ulid4j.benchmark;
+
+import cn.vlts.ulid4j.ULID;
+import cn.vlts.ulid4j.ULIDEncodings;
+import cn.vlts.ulid4j.ULIDFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Benchmark of time window filters and comparisons over 1024 canonical strings, directly on the encoded
+ * forms against decoding every string
+ * @since 2026/10/17 01:40
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EncodingsBenchmarkTest {
+
+    static final int SIZE = 1024;
+
+    String[] values;
+
+    long fromTimestamp;
+
+    long toTimestamp;
+
+    @Setup
+    public void setup() {
+        ULIDFactory ulidFactory = ULIDFactory.factory();
+        long now = System.currentTimeMillis();
+        values = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = ulidFactory.ulid(now - i).toString();
+        }
+        fromTimestamp = now - SIZE / 2;
+        toTimestamp = now;
+    }
+
+    @Benchmark
+    public int filterDecoded() {
+        int count = 0;
+        for (String value : values) {
+            long timestamp = ULID.fromString(value).getTimestamp();
+            if (timestamp >= fromTimestamp && timestamp <= toTimestamp) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int filterEncoded() {
+        int count = 0;
+        for (String value : values) {
+            if (ULIDEncodings.isInTimeRange(value, fromTimestamp, toTimestamp)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int compareDecoded() {
+        int sum = 0;
+        for (int i = 1; i < SIZE; i++) {
+            sum += ULID.fromString(values[i - 1]).compareTo(ULID.fromString(values[i]));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int compareEncoded() {
+        int sum = 0;
+        for (int i = 1; i < SIZE; i++) {
+            sum += ULIDEncodings.compareEncoded(values[i - 1], values[i]);
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(EncodingsBenchmarkTest.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,88 @@
+package cn.vlts.ulid4j.benchmark;
+
+import cn.vlts.ulid4j.ULID;
+import cn.vlts.ulid4j.ULIDExpiringCache;
+import cn.vlts.ulid4j.ULIDFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Benchmark of the expiring cache against a concurrent hash map without any expiration. The reads hit
+ * a cache whose keys live for an hour, the writes insert fresh ULIDs into a cache whose keys live for a second, so it
+ * keeps dropping expired buckets while the map is cleared when it grows too large
+ * @since 2026/10/17 00:20
+ */
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExpiringCacheBenchmarkTest {
+
+    static final int KEYS = 1 << 16;
+
+    static final int MAX_MAP_SIZE = 1 << 20;
+
+    ULIDFactory ulidFactory;
+
+    ULID[] ulids;
+
+    ULIDExpiringCache<ULID> readCache;
+
+    ULIDExpiringCache<ULID> writeCache;
+
+    ConcurrentHashMap<ULID, ULID> map;
+
+    @Setup
+    public void setup() {
+        ulidFactory = ULIDFactory.factory();
+        readCache = new ULIDExpiringCache<>(1, TimeUnit.HOURS);
+        writeCache = new ULIDExpiringCache<>(1, TimeUnit.SECONDS);
+        map = new ConcurrentHashMap<>();
+        ulids = new ULID[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            ulids[i] = ulidFactory.ulid();
+            readCache.put(ulids[i], ulids[i]);
+            map.put(ulids[i], ulids[i]);
+        }
+    }
+
+    @Benchmark
+    public ULID cacheGet() {
+        ULID ulid = ulids[ThreadLocalRandom.current().nextInt(KEYS)];
+        return readCache.get(ulid.getMostSignificantBits(), ulid.getLeastSignificantBits());
+    }
+
+    @Benchmark
+    public ULID mapGet() {
+        return map.get(ulids[ThreadLocalRandom.current().nextInt(KEYS)]);
+    }
+
+    @Benchmark
+    public ULID cachePut() {
+        ULID ulid = ulidFactory.ulid();
+        return writeCache.put(ulid, ulid);
+    }
+
+    @Benchmark
+    public ULID mapPut() {
+        ULID ulid = ulidFactory.ulid();
+        if (map.size() > MAX_MAP_SIZE) {
+            map.clear();
+        }
+        return map.put(ulid, ulid);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(ExpiringCacheBenchmarkTest.class.getSimpleName()).build()).run();
+    }
+}
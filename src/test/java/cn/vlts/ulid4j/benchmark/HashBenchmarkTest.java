@@ -0,0 +1,113 @@
+package cn.vlts.ulid4j.benchmark;
+
+import cn.vlts.ulid4j.ULID;
+import cn.vlts.ulid4j.ULIDFactory;
+import cn.vlts.ulid4j.ULIDHashSet;
+import cn.vlts.ulid4j.ULIDLongMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Benchmark of ULID hash set and maps against HashMap/HashSet, with random and monotonic keys
+ * @since 2026/10/16 14:50
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 5, time = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HashBenchmarkTest {
+
+    static final int SIZE = 1 << 16;
+
+    @Param({"random", "monotonic"})
+    public String keys;
+
+    ULID[] ulids;
+
+    long[] msbs;
+
+    long[] lsbs;
+
+    Map<ULID, Long> hashMap;
+
+    ULIDLongMap ulidLongMap;
+
+    @Setup
+    public void setup() {
+        ULIDFactory factory = "monotonic".equals(keys) ? ULIDFactory.monotonicFactory() : ULIDFactory.factory();
+        List<ULID> list = factory.ulids(SIZE);
+        ulids = list.toArray(new ULID[0]);
+        msbs = new long[SIZE];
+        lsbs = new long[SIZE];
+        hashMap = new HashMap<>();
+        ulidLongMap = new ULIDLongMap();
+        // look up in random order, sequential keys would otherwise hit sequential buckets of HashMap
+        Collections.shuffle(Arrays.asList(ulids), new Random(SIZE));
+        for (int i = 0; i < SIZE; i++) {
+            msbs[i] = ulids[i].getMostSignificantBits();
+            lsbs[i] = ulids[i].getLeastSignificantBits();
+            hashMap.put(ulids[i], (long) i);
+            ulidLongMap.put(msbs[i], lsbs[i], i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long hashMapGet() {
+        long sum = 0;
+        for (ULID ulid : ulids) {
+            sum += hashMap.get(ulid);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long ulidLongMapGet() {
+        long sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += ulidLongMap.get(msbs[i], lsbs[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public Set<ULID> hashSetAdd() {
+        Set<ULID> set = new HashSet<>();
+        for (ULID ulid : ulids) {
+            set.add(ulid);
+        }
+        return set;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public ULIDHashSet ulidHashSetAdd() {
+        ULIDHashSet set = new ULIDHashSet();
+        for (int i = 0; i < SIZE; i++) {
+            set.add(msbs[i], lsbs[i]);
+        }
+        return set;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(HashBenchmarkTest.class.getSimpleName()).build()).run();
+    }
+}
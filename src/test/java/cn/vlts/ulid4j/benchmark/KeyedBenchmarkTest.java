@@ -0,0 +1,63 @@
+package cn.vlts.ulid4j.benchmark;
+
+import cn.vlts.ulid4j.KeyedULIDFactory;
+import cn.vlts.ulid4j.ULID;
+import cn.vlts.ulid4j.ULIDFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Benchmark of the keyed factory against a concurrent hash map of monotonic factories per key, the keys
+ * are drawn uniformly from the count of keys
+ * @since 2026/10/16 23:40
+ */
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KeyedBenchmarkTest {
+
+    @Param({"1024", "262144"})
+    int keys;
+
+    KeyedULIDFactory keyed;
+
+    ConcurrentHashMap<Long, ULIDFactory> map;
+
+    @Setup
+    public void setup() {
+        keyed = new KeyedULIDFactory();
+        map = new ConcurrentHashMap<>();
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.println();
+        System.out.println("keyed: " + keyed.size() + " keys, map: " + map.size() + " keys");
+    }
+
+    @Benchmark
+    public ULID keyed() {
+        return keyed.ulid(ThreadLocalRandom.current().nextInt(keys));
+    }
+
+    @Benchmark
+    public ULID map() {
+        long key = ThreadLocalRandom.current().nextInt(keys);
+        return map.computeIfAbsent(key, k -> ULIDFactory.monotonicFactory()).ulid();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(KeyedBenchmarkTest.class.getSimpleName()).build()).run();
+    }
+}
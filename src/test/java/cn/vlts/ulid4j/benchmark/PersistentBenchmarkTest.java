@@ -0,0 +1,63 @@
+package cn.vlts.ulid4j.benchmark;
+
+import cn.vlts.ulid4j.PersistentMonotonicULIDFactory;
+import cn.vlts.ulid4j.ULID;
+import cn.vlts.ulid4j.ULIDFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Benchmark of the persistent monotonic factory against the monotonic factory, the checkpoints are
+ * written behind by the background thread, so the throughput should be about the same
+ * @since 2026/10/16 23:10
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PersistentBenchmarkTest {
+
+    ULIDFactory monotonic;
+
+    PersistentMonotonicULIDFactory persistent;
+
+    Path path;
+
+    @Setup
+    public void setup() throws IOException {
+        monotonic = ULIDFactory.monotonicFactory();
+        path = Files.createTempFile("ulid4j", ".checkpoint");
+        persistent = PersistentMonotonicULIDFactory.open(path);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        persistent.close();
+        Files.delete(path);
+    }
+
+    @Benchmark
+    public ULID monotonic() {
+        return monotonic.ulid();
+    }
+
+    @Benchmark
+    public ULID persistent() {
+        return persistent.ulid();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(PersistentBenchmarkTest.class.getSimpleName()).build()).run();
+    }
+}
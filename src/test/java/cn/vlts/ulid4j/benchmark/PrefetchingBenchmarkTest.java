@@ -0,0 +1,60 @@
+package cn.vlts.ulid4j.benchmark;
+
+import cn.vlts.ulid4j.PrefetchingULIDFactory;
+import cn.vlts.ulid4j.TickingClock;
+import cn.vlts.ulid4j.ULID;
+import cn.vlts.ulid4j.ULIDFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Benchmark of the latency distribution of the prefetching factory against its monotonic delegate, the
+ * percentiles are reported by sample time mode
+ * @since 2026/10/16 22:40
+ */
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 5, time = 3)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PrefetchingBenchmarkTest {
+
+    ULIDFactory monotonic;
+
+    PrefetchingULIDFactory prefetching;
+
+    @Setup
+    public void setup() {
+        monotonic = ULIDFactory.monotonicFactory(TickingClock.shared());
+        prefetching = new PrefetchingULIDFactory(ULIDFactory.monotonicFactory(TickingClock.shared()),
+                TickingClock.shared(), 1 << 16, 1 << 14, 1 << 16, 50, TimeUnit.MILLISECONDS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.println();
+        System.out.println("fallbacks: " + prefetching.getFallbacks() + ", discarded: " + prefetching.getDiscarded());
+        prefetching.close();
+    }
+
+    @Benchmark
+    public ULID monotonic() {
+        return monotonic.ulid();
+    }
+
+    @Benchmark
+    public ULID prefetching() {
+        return prefetching.ulid();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(PrefetchingBenchmarkTest.class.getSimpleName()).build()).run();
+    }
+}
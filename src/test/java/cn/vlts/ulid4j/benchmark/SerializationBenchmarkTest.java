@@ -0,0 +1,93 @@
+package cn.vlts.ulid4j.benchmark;
+
+import cn.vlts.ulid4j.ULID;
+import cn.vlts.ulid4j.ULIDArray;
+import cn.vlts.ulid4j.ULIDFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Benchmark of the default Java serialization of ULID against the bulk codec of data output, the
+ * payload sizes are printed in setup
+ * @since 2026/10/16 22:10
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmarkTest {
+
+    @Param({"1", "1000"})
+    int size;
+
+    ArrayList<ULID> ulids;
+
+    ULIDArray array;
+
+    byte[] ulidsBytes;
+
+    byte[] arrayBytes;
+
+    @Setup
+    public void setup() throws IOException {
+        ULIDFactory factory = ULIDFactory.factory();
+        ulids = new ArrayList<>();
+        array = new ULIDArray();
+        for (int i = 0; i < size; i++) {
+            ULID ulid = factory.ulid();
+            ulids.add(ulid);
+            array.add(ulid);
+        }
+        ulidsBytes = writeObject().toByteArray();
+        arrayBytes = writeData().toByteArray();
+        System.out.println();
+        System.out.println("object output: " + ulidsBytes.length + " bytes, data output: " + arrayBytes.length
+                + " bytes");
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream writeObject() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(ulids);
+        }
+        return bytes;
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream writeData() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            array.writeTo(out);
+        }
+        return bytes;
+    }
+
+    @Benchmark
+    public Object readObject() throws Exception {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(ulidsBytes))) {
+            return in.readObject();
+        }
+    }
+
+    @Benchmark
+    public ULIDArray readData() throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(arrayBytes))) {
+            return ULIDArray.readFrom(in);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(SerializationBenchmarkTest.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,90 @@
+package cn.vlts.ulid4j.benchmark;
+
+import cn.vlts.ulid4j.ULID;
+import cn.vlts.ulid4j.ULIDFactory;
+import cn.vlts.ulid4j.ULIDSorts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Benchmark of radix sort against Arrays.parallelSort, the ULIDs are created within one minute and
+ * shuffled, the arrays are restored before every invocation
+ * @since 2026/10/16 19:40
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SortBenchmarkTest {
+
+    @Param({"1000000"})
+    int size;
+
+    ULID[] source;
+
+    ULID[] ulids;
+
+    long[] sourceMsbs;
+
+    long[] sourceLsbs;
+
+    long[] msbs;
+
+    long[] lsbs;
+
+    @Setup
+    public void setup() {
+        ULIDFactory factory = ULIDFactory.factory();
+        long now = System.currentTimeMillis();
+        source = new ULID[size];
+        sourceMsbs = new long[size];
+        sourceLsbs = new long[size];
+        for (int i = 0; i < size; i++) {
+            source[i] = factory.ulid(now + ThreadLocalRandom.current().nextLong(60000));
+            sourceMsbs[i] = source[i].getMostSignificantBits();
+            sourceLsbs[i] = source[i].getLeastSignificantBits();
+        }
+        ulids = new ULID[size];
+        msbs = new long[size];
+        lsbs = new long[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void restore() {
+        System.arraycopy(source, 0, ulids, 0, size);
+        System.arraycopy(sourceMsbs, 0, msbs, 0, size);
+        System.arraycopy(sourceLsbs, 0, lsbs, 0, size);
+    }
+
+    @Benchmark
+    public ULID[] parallelSort() {
+        Arrays.parallelSort(ulids);
+        return ulids;
+    }
+
+    @Benchmark
+    public ULID[] radixSort() {
+        ULIDSorts.sort(ulids);
+        return ulids;
+    }
+
+    @Benchmark
+    public long[] radixSortPrimitive() {
+        ULIDSorts.sort(msbs, lsbs);
+        return lsbs;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(SortBenchmarkTest.class.getSimpleName()).build()).run();
+    }
+}
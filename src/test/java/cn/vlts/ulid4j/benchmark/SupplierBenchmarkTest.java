@@ -0,0 +1,122 @@
+package cn.vlts.ulid4j.benchmark;
+
+import cn.vlts.ulid4j.SecureRandomnessSource;
+import cn.vlts.ulid4j.TickingClock;
+import cn.vlts.ulid4j.ULID;
+import cn.vlts.ulid4j.ULIDFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Benchmark of timestamp suppliers and randomness providers
+ * @since 2026/10/16 16:30
+ */
+@Fork(1)
+@Threads(10)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 5, time = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SupplierBenchmarkTest {
+
+    LongSupplier systemClock;
+
+    LongSupplier tickingClock;
+
+    ULIDFactory systemClockMonotonicFactory;
+
+    ULIDFactory tickingClockMonotonicFactory;
+
+    IntFunction<byte[]> secureRandomFunction;
+
+    SecureRandomnessSource secureRandomnessSource;
+
+    ULIDFactory secureRandomFunctionFactory;
+
+    ULIDFactory secureRandomnessSourceFactory;
+
+    @Setup
+    public void setup() {
+        systemClock = ULIDFactory.DEFAULT_TIMESTAMP_SUPPLIER;
+        tickingClock = TickingClock.shared();
+        systemClockMonotonicFactory = ULIDFactory.monotonicFactory(systemClock);
+        tickingClockMonotonicFactory = ULIDFactory.monotonicFactory(tickingClock);
+        SecureRandom secureRandom = new SecureRandom();
+        secureRandomFunction = len -> {
+            byte[] bytes = new byte[len];
+            secureRandom.nextBytes(bytes);
+            return bytes;
+        };
+        secureRandomnessSource = new SecureRandomnessSource();
+        secureRandomFunctionFactory = ULIDFactory.factory(systemClock, secureRandomFunction);
+        secureRandomnessSourceFactory = ULIDFactory.factory(systemClock, secureRandomnessSource);
+    }
+
+    @TearDown
+    public void tearDown() {
+        secureRandomnessSource.close();
+    }
+
+    @Benchmark
+    public long systemClock() {
+        return systemClock.getAsLong();
+    }
+
+    @Benchmark
+    public long tickingClock() {
+        return tickingClock.getAsLong();
+    }
+
+    @Benchmark
+    public ULID createMonotonicULIDWithSystemClock() {
+        return systemClockMonotonicFactory.ulid();
+    }
+
+    @Benchmark
+    public ULID createMonotonicULIDWithTickingClock() {
+        return tickingClockMonotonicFactory.ulid();
+    }
+
+    @Benchmark
+    public byte[] defaultRandomnessFunction() {
+        return ULIDFactory.DEFAULT_RANDOMNESS_FUNCTION.apply(ULID.RANDOMNESS_BYTE_LEN);
+    }
+
+    @Benchmark
+    public long defaultRandomnessSource() {
+        return ULIDFactory.DEFAULT_RANDOMNESS_SOURCE.nextShort() ^ ULIDFactory.DEFAULT_RANDOMNESS_SOURCE.nextLong();
+    }
+
+    @Benchmark
+    public byte[] secureRandomFunction() {
+        return secureRandomFunction.apply(ULID.RANDOMNESS_BYTE_LEN);
+    }
+
+    @Benchmark
+    public long secureRandomnessSource() {
+        return secureRandomnessSource.nextShort() ^ secureRandomnessSource.nextLong();
+    }
+
+    @Benchmark
+    public ULID createULIDWithSecureRandomFunction() {
+        return secureRandomFunctionFactory.ulid();
+    }
+
+    @Benchmark
+    public ULID createULIDWithSecureRandomnessSource() {
+        return secureRandomnessSourceFactory.ulid();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(SupplierBenchmarkTest.class.getSimpleName()).build()).run();
+    }
+}
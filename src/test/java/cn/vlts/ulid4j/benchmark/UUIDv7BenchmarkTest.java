@@ -0,0 +1,83 @@
+package cn.vlts.ulid4j.benchmark;
+
+import cn.vlts.ulid4j.ULID;
+import cn.vlts.ulid4j.ULIDFactory;
+import cn.vlts.ulid4j.UUIDv7Converter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Benchmark of converting 1024 ULIDs to UUIDv7, in place over primitive arrays against one UUID per
+ * ULID, and of the UUIDv7 monotonic factory against the monotonic factory
+ * @since 2026/10/17 01:00
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UUIDv7BenchmarkTest {
+
+    static final int SIZE = 1024;
+
+    List<ULID> ulids;
+
+    UUID[] uuids;
+
+    long[] msbs;
+
+    long[] lsbs;
+
+    ULIDFactory monotonic;
+
+    ULIDFactory uuidV7Monotonic;
+
+    @Setup
+    public void setup() {
+        monotonic = ULIDFactory.monotonicFactory();
+        uuidV7Monotonic = ULIDFactory.uuidV7MonotonicFactory();
+        ulids = monotonic.ulids(SIZE);
+        uuids = new UUID[SIZE];
+        msbs = new long[SIZE];
+        lsbs = new long[SIZE];
+        monotonic.fill(msbs, lsbs, 0, SIZE);
+    }
+
+    @Benchmark
+    public UUID[] toUUID() {
+        for (int i = 0; i < SIZE; i++) {
+            uuids[i] = UUIDv7Converter.toUUIDv7(ulids.get(i), UUIDv7Converter.LossPolicy.TRUNCATE);
+        }
+        return uuids;
+    }
+
+    @Benchmark
+    public long[] toUUIDInPlace() {
+        // converting a UUIDv7 again with truncate keeps it a UUIDv7, so the arrays are reused
+        UUIDv7Converter.toUUIDv7(msbs, lsbs, 0, SIZE, UUIDv7Converter.LossPolicy.TRUNCATE);
+        return msbs;
+    }
+
+    @Benchmark
+    public ULID monotonic() {
+        return monotonic.ulid();
+    }
+
+    @Benchmark
+    public ULID uuidV7Monotonic() {
+        return uuidV7Monotonic.ulid();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(UUIDv7BenchmarkTest.class.getSimpleName()).build()).run();
+    }
+}
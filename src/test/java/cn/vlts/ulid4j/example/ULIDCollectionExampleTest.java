@@ -0,0 +1,376 @@
+package cn.vlts.ulid4j.example;
+
+import cn.vlts.ulid4j.ULID;
+import cn.vlts.ulid4j.ULIDArray;
+import cn.vlts.ulid4j.ULIDBlockReader;
+import cn.vlts.ulid4j.ULIDBlockWriter;
+import cn.vlts.ulid4j.ULIDExpiringCache;
+import cn.vlts.ulid4j.ULIDFactory;
+import cn.vlts.ulid4j.ULIDHashSet;
+import cn.vlts.ulid4j.ULIDIndexFile;
+import cn.vlts.ulid4j.ULIDLineReader;
+import cn.vlts.ulid4j.ULIDLineWriter;
+import cn.vlts.ulid4j.ULIDLongMap;
+import cn.vlts.ulid4j.ULIDObjectMap;
+import cn.vlts.ulid4j.ULIDSorts;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author throwable
+ * @version v1
+ * @description Examples of ULID collections
+ * @since 2026/10/16 13:40
+ */
+public class ULIDCollectionExampleTest {
+
+    @Test
+    public void testULIDArray() {
+        ULIDFactory ulidFactory = ULIDFactory.factory();
+        ULIDArray array = new ULIDArray();
+        List<ULID> expected = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            ULID ulid = ulidFactory.ulid(ThreadLocalRandom.current().nextLong(1000, 2000));
+            array.add(ulid);
+            expected.add(ulid);
+        }
+        array.addAll(ULIDFactory.monotonicFactory(() -> 1500L), 1000);
+        for (int i = 50000; i < array.size(); i++) {
+            expected.add(array.get(i));
+        }
+        array.sort();
+        Collections.sort(expected);
+        Assert.assertEquals(expected.size(), array.size());
+        int index = 0;
+        for (ULID ulid : array) {
+            Assert.assertEquals(expected.get(index++), ulid);
+        }
+        int from = array.lowerBound(1500);
+        int to = array.upperBound(1500);
+        Assert.assertTrue(from < to);
+        Assert.assertEquals(1500, array.getTimestamp(from));
+        Assert.assertEquals(1499, array.getTimestamp(from - 1));
+        Assert.assertEquals(1500, array.getTimestamp(to - 1));
+        Assert.assertEquals(1501, array.getTimestamp(to));
+        long[] count = new long[1];
+        array.forEachInTimeRange(1500, 1500, (msb, lsb) -> count[0]++);
+        Assert.assertEquals(to - from, count[0]);
+        Assert.assertEquals(from, array.binarySearch(array.get(from)));
+        Assert.assertEquals(0, array.lowerBound(0));
+        Assert.assertEquals(array.size(), array.upperBound(5000));
+    }
+
+    @Test
+    public void testULIDHashSetAndMaps() {
+        ULIDFactory ulidFactory = ULIDFactory.monotonicFactory();
+        ULIDHashSet set = new ULIDHashSet();
+        ULIDLongMap longMap = new ULIDLongMap();
+        ULIDObjectMap<String> objectMap = new ULIDObjectMap<>();
+        Map<ULID, Long> expected = new HashMap<>();
+        List<ULID> keys = new ArrayList<>(ulidFactory.ulids(20000));
+        keys.add(ULID.fromUUID(new UUID(0L, 0L)));
+        for (int i = 0; i < 20000; i++) {
+            keys.add(ULIDFactory.factory().ulid());
+        }
+        for (int i = 0; i < 100000; i++) {
+            ULID key = keys.get(ThreadLocalRandom.current().nextInt(keys.size()));
+            long value = i;
+            if (ThreadLocalRandom.current().nextInt(3) == 0) {
+                Long previous = expected.remove(key);
+                Assert.assertEquals(previous != null, set.remove(key));
+                Assert.assertEquals(previous == null ? 0L : previous, longMap.remove(key));
+                Assert.assertEquals(previous == null ? null : String.valueOf(previous), objectMap.remove(key));
+            } else {
+                Long previous = expected.put(key, value);
+                Assert.assertEquals(previous == null, set.add(key));
+                Assert.assertEquals(previous == null ? 0L : previous, longMap.put(key, value));
+                Assert.assertEquals(previous == null ? null : String.valueOf(previous), objectMap.put(key, String.valueOf(value)));
+            }
+        }
+        Assert.assertEquals(expected.size(), set.size());
+        Assert.assertEquals(expected.size(), longMap.size());
+        Assert.assertEquals(expected.size(), objectMap.size());
+        for (ULID key : keys) {
+            Long value = expected.get(key);
+            Assert.assertEquals(value != null, set.contains(key));
+            Assert.assertEquals(value != null, longMap.containsKey(key));
+            Assert.assertEquals(value == null ? 0L : value, longMap.get(key));
+            Assert.assertEquals(value == null ? null : String.valueOf(value), objectMap.get(key));
+        }
+        int[] count = new int[1];
+        set.forEach((msb, lsb) -> {
+            Assert.assertTrue(expected.containsKey(ULID.fromUUID(new UUID(msb, lsb))));
+            count[0]++;
+        });
+        Assert.assertEquals(expected.size(), count[0]);
+        longMap.forEach((msb, lsb, value) -> Assert.assertEquals(expected.get(ULID.fromUUID(new UUID(msb, lsb))).longValue(), value));
+        objectMap.clear();
+        Assert.assertTrue(objectMap.isEmpty());
+        Assert.assertNull(objectMap.get(keys.get(0)));
+        ULID key = keys.get(0);
+        Assert.assertEquals("1", objectMap.computeIfAbsent(key.getMostSignificantBits(), key.getLeastSignificantBits(), k -> "1"));
+        Assert.assertEquals("1", objectMap.computeIfAbsent(key.getMostSignificantBits(), key.getLeastSignificantBits(), k -> "2"));
+        ULID other = keys.get(1);
+        try {
+            objectMap.computeIfAbsent(other.getMostSignificantBits(), other.getLeastSignificantBits(), k -> {
+                objectMap.put(k, "3");
+                return "4";
+            });
+            Assert.fail();
+        } catch (ConcurrentModificationException expectedException) {
+            Assert.assertEquals("3", objectMap.get(other));
+        }
+    }
+
+    @Test
+    public void testULIDIndexFile() throws Exception {
+        Path path = Files.createTempFile("ulid", ".idx");
+        Files.delete(path);
+        long[] clock = {1000L};
+        ULIDFactory ulidFactory = ULIDFactory.monotonicFactory(() -> clock[0]);
+        ULIDArray expected = new ULIDArray();
+        try (ULIDIndexFile indexFile = ULIDIndexFile.open(path)) {
+            for (int i = 0; i < 10000; i++) {
+                if (i % 7 == 0) {
+                    clock[0] += ThreadLocalRandom.current().nextInt(3);
+                }
+                ULID ulid = ulidFactory.ulid();
+                indexFile.append(ulid);
+                expected.add(ulid);
+            }
+            Assert.assertThrows(IllegalArgumentException.class, () -> indexFile.append(expected.get(0)));
+            Assert.assertEquals(expected.get(5000), indexFile.get(5000));
+        }
+        try (ULIDIndexFile indexFile = ULIDIndexFile.open(path)) {
+            Assert.assertEquals(10000, indexFile.size());
+            ULID ulid = ulidFactory.ulid();
+            indexFile.append(ulid);
+            expected.add(ulid);
+            Assert.assertEquals(ulid, indexFile.get(10000));
+        }
+        try (ULIDIndexFile indexFile = ULIDIndexFile.openReadOnly(path)) {
+            Assert.assertEquals(expected.size(), indexFile.size());
+            for (long ts = 999; ts <= clock[0] + 1; ts++) {
+                Assert.assertEquals(expected.lowerBound(ts), indexFile.lowerBound(ts));
+                Assert.assertEquals(expected.upperBound(ts), indexFile.upperBound(ts));
+            }
+            for (int i = 0; i < expected.size(); i += 97) {
+                Assert.assertEquals(i, indexFile.indexOf(expected.get(i)));
+            }
+            Assert.assertFalse(indexFile.contains(ulidFactory.ulid()));
+            long from = expected.getTimestamp(100);
+            long to = expected.getTimestamp(200);
+            ULIDArray range = new ULIDArray();
+            indexFile.forEachInTimeRange(from, to, range::add);
+            Assert.assertEquals(expected.upperBound(to) - expected.lowerBound(from), range.size());
+            Assert.assertEquals(expected.get(expected.lowerBound(from)), range.get(0));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testULIDSorts() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int size : new int[]{10, 1000, 300000}) {
+            ULIDFactory ulidFactory = ULIDFactory.factory();
+            ULID[] ulids = new ULID[size];
+            long[] msbs = new long[size];
+            long[] lsbs = new long[size];
+            for (int i = 0; i < size; i++) {
+                ulids[i] = ulidFactory.ulid(random.nextLong(1000, 1000 + size / 10 + 1));
+                msbs[i] = ulids[i].getMostSignificantBits();
+                lsbs[i] = ulids[i].getLeastSignificantBits();
+            }
+            ULID[] expected = ulids.clone();
+            Arrays.sort(expected);
+            ULID[] copy = ulids.clone();
+            ULID[] expectedRange = Arrays.copyOfRange(copy, 1, size - 1);
+            Arrays.sort(expectedRange);
+            ULIDSorts.sort(ulids);
+            ULIDSorts.sort(msbs, lsbs);
+            for (int i = 0; i < size; i++) {
+                Assert.assertEquals(expected[i], ulids[i]);
+                Assert.assertEquals(expected[i].getMostSignificantBits(), msbs[i]);
+                Assert.assertEquals(expected[i].getLeastSignificantBits(), lsbs[i]);
+            }
+            // sort a range only
+            ULID first = copy[0];
+            ULID last = copy[size - 1];
+            ULIDSorts.sort(copy, 1, size - 1);
+            Assert.assertSame(first, copy[0]);
+            Assert.assertSame(last, copy[size - 1]);
+            for (int i = 1; i < size - 1; i++) {
+                Assert.assertEquals(expectedRange[i - 1], copy[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testULIDLineReaderAndWriter() throws Exception {
+        Path path = Files.createTempFile("ulid", ".txt");
+        try {
+            ULIDArray expected = new ULIDArray();
+            expected.addAll(ULIDFactory.factory(), 10000);
+            try (ULIDLineWriter writer = new ULIDLineWriter(FileChannel.open(path, StandardOpenOption.WRITE), 64)) {
+                writer.write(expected);
+            }
+            String bad = "not a ulid\n" + String.join("", Collections.nCopies(100, "0123456789")) + "\n\n"
+                    + "8ZZZZZZZZZZZZZZZZZZZZZZZZZ\r\n" + expected.get(0) + "\r\n" + expected.get(1);
+            Files.write(path, bad.getBytes(StandardCharsets.US_ASCII), StandardOpenOption.APPEND);
+            expected.add(expected.get(0));
+            expected.add(expected.get(1));
+            List<Long> malformed = new ArrayList<>();
+            try (ULIDLineReader reader = new ULIDLineReader(FileChannel.open(path), 64, (lineNumber, line) -> malformed.add(lineNumber))) {
+                ULIDArray actual = new ULIDArray();
+                reader.readAll(actual::add);
+                Assert.assertEquals(expected.size(), actual.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    Assert.assertEquals(expected.get(i), actual.get(i));
+                }
+                Assert.assertEquals(10006, reader.getLineNumber());
+                Assert.assertEquals(3, reader.getMalformedLines());
+                Assert.assertEquals(Arrays.asList(10001L, 10002L, 10004L), malformed);
+            }
+            try (ULIDLineReader reader = ULIDLineReader.map(path, null)) {
+                long[] msbs = new long[777];
+                long[] lsbs = new long[777];
+                int index = 0;
+                int n;
+                while ((n = reader.read(msbs, lsbs, 0, msbs.length)) >= 0) {
+                    for (int i = 0; i < n; i++, index++) {
+                        Assert.assertEquals(expected.getMostSignificantBits(index), msbs[i]);
+                        Assert.assertEquals(expected.getLeastSignificantBits(index), lsbs[i]);
+                    }
+                }
+                Assert.assertEquals(expected.size(), index);
+                Assert.assertEquals(3, reader.getMalformedLines());
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testULIDBlockReaderAndWriter() throws Exception {
+        ULIDArray expected = new ULIDArray();
+        expected.addAll(ULIDFactory.monotonicFactory(), 100000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ULIDBlockWriter writer = new ULIDBlockWriter(Channels.newChannel(out), 1000)) {
+            writer.write(expected);
+        }
+        byte[] bytes = out.toByteArray();
+        System.out.println("monotonic: " + expected.size() * ULID.BINARY_BYTE_LEN + " bytes => " + bytes.length + " bytes");
+        Assert.assertTrue(expected.size() * ULID.BINARY_BYTE_LEN > bytes.length * 5);
+        try (ULIDBlockReader reader = new ULIDBlockReader(Channels.newChannel(new ByteArrayInputStream(bytes)))) {
+            ULIDArray actual = new ULIDArray();
+            reader.readAll(actual::add);
+            Assert.assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                Assert.assertEquals(expected.get(i), actual.get(i));
+            }
+            Assert.assertEquals(100, reader.getBlocks());
+        }
+        // random access, skip to the 42nd block without decoding the previous blocks
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        for (int i = 0; i < 42; i++) {
+            Assert.assertEquals(1000, ULIDBlockReader.skip(buffer));
+        }
+        Assert.assertEquals(expected.getTimestamp(42000), ULIDBlockReader.firstTimestamp(buffer));
+        long[] msbs = new long[ULIDBlockReader.count(buffer)];
+        long[] lsbs = new long[msbs.length];
+        Assert.assertEquals(1000, ULIDBlockReader.decode(buffer, msbs, lsbs, 0));
+        for (int i = 0; i < msbs.length; i++) {
+            Assert.assertEquals(expected.getMostSignificantBits(42000 + i), msbs[i]);
+            Assert.assertEquals(expected.getLeastSignificantBits(42000 + i), lsbs[i]);
+        }
+        // random ULIDs only save the timestamps
+        expected.clear();
+        expected.addAll(ULIDFactory.factory(), 10000);
+        expected.sort();
+        buffer = ByteBuffer.allocate(ULIDBlockWriter.maxBlockLength(expected.size()));
+        msbs = new long[expected.size()];
+        lsbs = new long[expected.size()];
+        for (int i = 0; i < expected.size(); i++) {
+            msbs[i] = expected.getMostSignificantBits(i);
+            lsbs[i] = expected.getLeastSignificantBits(i);
+        }
+        int length = ULIDBlockWriter.encode(msbs, lsbs, 0, msbs.length, buffer);
+        System.out.println("random: " + expected.size() * ULID.BINARY_BYTE_LEN + " bytes => " + length + " bytes");
+        buffer.flip();
+        long[] decodedMsbs = new long[msbs.length];
+        long[] decodedLsbs = new long[lsbs.length];
+        Assert.assertEquals(msbs.length, ULIDBlockReader.decode(buffer, decodedMsbs, decodedLsbs, 0));
+        Assert.assertArrayEquals(msbs, decodedMsbs);
+        Assert.assertArrayEquals(lsbs, decodedLsbs);
+        // unsorted and truncated input
+        try {
+            ULIDBlockWriter.encode(new long[]{2L, 1L}, new long[]{0L, 0L}, 0, 2, ByteBuffer.allocate(256));
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+        }
+        try (ULIDBlockReader reader = new ULIDBlockReader(Channels.newChannel(new ByteArrayInputStream(bytes, 0, bytes.length - 1)))) {
+            reader.readAll((msb, lsb) -> {
+            });
+            Assert.fail();
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testULIDExpiringCache() {
+        AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        ULIDExpiringCache<String> cache = new ULIDExpiringCache<>(clock::get, 1000, 100, TimeUnit.MILLISECONDS,
+                TimeUnit.MILLISECONDS);
+        ULIDFactory ulidFactory = ULIDFactory.monotonicFactory(clock::get);
+        List<ULID> ulids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 100; j++) {
+                ULID ulid = ulidFactory.ulid();
+                ulids.add(ulid);
+                cache.put(ulid, ulid.toString());
+            }
+            clock.addAndGet(100);
+        }
+        Assert.assertEquals(1000, cache.size());
+        for (ULID ulid : ulids) {
+            Assert.assertEquals(ulid.toString(), cache.get(ulid));
+        }
+        // the keys of the first 300 milliseconds are expired, three buckets are dropped as a whole
+        clock.addAndGet(300);
+        Assert.assertNull(cache.get(ulids.get(0)));
+        Assert.assertNull(cache.get(ulids.get(299)));
+        Assert.assertEquals(ulids.get(300).toString(), cache.get(ulids.get(300)));
+        Assert.assertEquals(3, cache.expire());
+        Assert.assertEquals(700, cache.size());
+        // expired keys are not cached
+        Assert.assertNull(cache.put(ulids.get(0), "expired"));
+        Assert.assertEquals(700, cache.size());
+        Assert.assertEquals(ulids.get(999).toString(), cache.remove(ulids.get(999)));
+        Assert.assertEquals(699, cache.size());
+    }
+}
@@ -1,13 +1,47 @@
 package cn.vlts.ulid4j.example;
 
+import cn.vlts.ulid4j.KeyedULIDFactory;
+import cn.vlts.ulid4j.PersistentMonotonicULIDFactory;
+import cn.vlts.ulid4j.PrefetchingULIDFactory;
+import cn.vlts.ulid4j.RandomnessSource;
+import cn.vlts.ulid4j.SecureRandomnessSource;
+import cn.vlts.ulid4j.TickingClock;
+import cn.vlts.ulid4j.UUIDv7Converter;
 import cn.vlts.ulid4j.ULID;
+import cn.vlts.ulid4j.ULIDArray;
+import cn.vlts.ulid4j.ULIDCodec;
+import cn.vlts.ulid4j.ULIDConsumer;
+import cn.vlts.ulid4j.ULIDEncodings;
 import cn.vlts.ulid4j.ULIDFactory;
+import cn.vlts.ulid4j.ULIDFactoryMetrics;
 import org.junit.Assert;
 import org.junit.Test;
 
+import javax.management.ObjectName;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 /**
  * @author throwable
@@ -53,6 +87,88 @@ public class ULIDExampleTest {
         System.out.println(ulidFactory.ulid());
     }
 
+    @Test
+    public void tesCreateULIDWithRandomnessSource() {
+        final SecureRandom secureRandom = new SecureRandom();
+        ULIDFactory ulidFactory = ULIDFactory.factory(System::currentTimeMillis, () -> secureRandom.nextLong());
+        System.out.println(ulidFactory.ulid());
+        ulidFactory = ULIDFactory.monotonicFactory(System::currentTimeMillis, () -> secureRandom.nextLong());
+        System.out.println(ulidFactory.ulid());
+        ulidFactory = ULIDFactory.factory(System::currentTimeMillis, new RandomnessSource() {
+
+            @Override
+            public long nextLong() {
+                return 0x030405060708090aL;
+            }
+
+            @Override
+            public short nextShort() {
+                return 0x0102;
+            }
+        });
+        ULID ulid = ulidFactory.ulid(15000);
+        Assert.assertEquals(15000, ulid.getTimestamp());
+        Assert.assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, ulid.getRandomness());
+    }
+
+    @Test
+    public void tesCreateStripedMonotonicULID() throws Exception {
+        ULIDFactory ulidFactory = ULIDFactory.stripedMonotonicFactory();
+        Thread[] threads = new Thread[4];
+        boolean[] monotonic = new boolean[threads.length];
+        for (int i = 0; i < threads.length; i++) {
+            final int index = i;
+            threads[i] = new Thread(() -> {
+                ULID last = ulidFactory.ulid();
+                boolean ok = true;
+                for (int j = 0; j < 10000; j++) {
+                    ULID next = ulidFactory.ulid();
+                    ok &= next.compareTo(last) > 0;
+                    last = next;
+                }
+                monotonic[index] = ok;
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (boolean ok : monotonic) {
+            Assert.assertTrue(ok);
+        }
+        long timestamp = System.currentTimeMillis() + 10000;
+        ULID ulid = ulidFactory.ulid(timestamp);
+        Assert.assertEquals(timestamp, ulid.getTimestamp());
+        Assert.assertTrue(ulidFactory.ulid(timestamp).compareTo(ulid) > 0);
+    }
+
+    @Test
+    public void tesCreateULIDBatch() {
+        ULIDFactory ulidFactory = ULIDFactory.monotonicFactory();
+        ULID before = ulidFactory.ulid();
+        List<ULID> ulids = ulidFactory.ulids(1000);
+        Assert.assertEquals(1000, ulids.size());
+        Assert.assertTrue(ulids.get(0).compareTo(before) > 0);
+        for (int i = 1; i < ulids.size(); i++) {
+            Assert.assertEquals(ulids.get(i - 1).increment(), ulids.get(i));
+        }
+        Assert.assertTrue(ulidFactory.ulid().compareTo(ulids.get(999)) > 0);
+        long[] msbs = new long[1010];
+        long[] lsbs = new long[1010];
+        ulidFactory.fill(msbs, lsbs, 10, 1000);
+        Assert.assertEquals(0L, msbs[9]);
+        for (int i = 11; i < 1010; i++) {
+            ULID ulid = ULID.fromUUID(new UUID(msbs[i], lsbs[i]));
+            Assert.assertEquals(ULID.fromUUID(new UUID(msbs[i - 1], lsbs[i - 1])).increment(), ulid);
+        }
+        ulidFactory = ULIDFactory.factory();
+        ulidFactory.fill(msbs, lsbs, 0, 1010);
+        for (int i = 0; i < 1010; i++) {
+            Assert.assertNotEquals(0L, msbs[i] >>> 16);
+        }
+        Assert.assertEquals(100, ulidFactory.ulids(100).size());
+    }
+
     @Test
     public void tesGetComponentsOfULID() {
         ULIDFactory ulidFactory = ULIDFactory.factory();
@@ -84,4 +200,436 @@ public class ULIDExampleTest {
         System.out.println(newUlid);
         Assert.assertEquals(ulid, newUlid);
     }
+
+    @Test
+    public void encodeAndDecodeWithBuffers() throws Exception {
+        ULIDFactory ulidFactory = ULIDFactory.factory();
+        ULID ulid = ulidFactory.ulid();
+        String o = ulid.toString();
+        byte[] bytes = new byte[30];
+        Assert.assertEquals(28, ulid.encode(bytes, 2));
+        Assert.assertEquals(o, new String(bytes, 2, 26, StandardCharsets.US_ASCII));
+        Assert.assertEquals(ulid, ULID.decode(bytes, 2));
+        char[] chars = new char[26];
+        ulid.encode(chars, 0);
+        Assert.assertEquals(o, new String(chars));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(52);
+        ulid.encode(buffer);
+        ulid.encode(buffer);
+        buffer.flip();
+        Assert.assertEquals(ulid, ULID.decode(buffer));
+        Assert.assertEquals(ulid, ULID.decode(buffer));
+        Assert.assertFalse(buffer.hasRemaining());
+        StringBuilder builder = ulid.appendTo(new StringBuilder("id="));
+        Assert.assertEquals("id=" + o, builder.toString());
+        Assert.assertEquals(ulid, ULID.decode(builder, 3));
+        Assert.assertEquals(ulid, ULID.decode("id=" + o.toLowerCase(), 3));
+        Assert.assertEquals(o, ulid.appendTo((Appendable) new StringBuilder()).toString());
+        Assert.assertEquals(o, ulid.appendTo(new StringWriter()).toString());
+        Assert.assertEquals(ULID.fromString("7ZZZZZZZZZZZZZZZZZZZZZZZZZ").toString(), "7ZZZZZZZZZZZZZZZZZZZZZZZZZ");
+        Assert.assertThrows(IllegalArgumentException.class, () -> ULID.fromString("8ZZZZZZZZZZZZZZZZZZZZZZZZZ"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> ULID.fromString("01GFSN3QBEYCMFVMCD4NMJ9G0U"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> ULID.fromString("01GFSN3QBEYCMFVMCD4NMJ9G0\u00e9"));
+    }
+
+    @Test
+    public void convertToBytesAndParseFromBytes() {
+        ULID ulid = ULID.fromString("01GFSN3QBEYCMFVMCD4NMJ9G0C");
+        byte[] bytes = ulid.toBytes();
+        Assert.assertEquals(16, bytes.length);
+        Assert.assertEquals(ulid, ULID.fromBytes(bytes));
+        Assert.assertArrayEquals(Arrays.copyOfRange(bytes, 6, 16), ulid.getRandomness());
+        byte[] dst = new byte[20];
+        Assert.assertEquals(18, ulid.writeTo(dst, 2));
+        Assert.assertEquals(ulid, ULID.fromBytes(dst, 2));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(32).order(ByteOrder.LITTLE_ENDIAN);
+        ulid.writeTo(buffer);
+        ulid.increment().writeTo(buffer);
+        buffer.flip();
+        Assert.assertEquals(ulid, ULID.readFrom(buffer));
+        Assert.assertEquals(ulid.increment(), ULID.readFrom(buffer));
+        Assert.assertEquals(ulid.getMostSignificantBits(), buffer.order(ByteOrder.BIG_ENDIAN).getLong(0));
+        ULID low = ULID.fromUUID(new UUID(ulid.getMostSignificantBits(), Long.MAX_VALUE));
+        ULID high = low.increment();
+        Assert.assertTrue(low.compareTo(high) < 0);
+        Assert.assertTrue(Arrays.compareUnsigned(low.toBytes(), high.toBytes()) < 0);
+        Assert.assertTrue(low.toString().compareTo(high.toString()) < 0);
+    }
+
+    @Test
+    public void tesCreateULIDWithTickingClock() throws Exception {
+        ULIDFactory ulidFactory = ULIDFactory.monotonicFactory(TickingClock.shared());
+        System.out.println(ulidFactory.ulid());
+        try (TickingClock clock = new TickingClock(5, TimeUnit.MILLISECONDS)) {
+            long last = clock.getAsLong();
+            Assert.assertTrue(Math.abs(System.currentTimeMillis() - last) < 1000);
+            for (int i = 0; i < 20; i++) {
+                Thread.sleep(2);
+                long now = clock.getAsLong();
+                Assert.assertTrue(now >= last);
+                last = now;
+            }
+            Assert.assertTrue(ULIDFactory.factory(clock).ulid().getTimestamp() >= last);
+        }
+    }
+
+    @Test
+    public void tesCreateULIDWithSecureRandomnessSource() {
+        try (SecureRandomnessSource source = new SecureRandomnessSource(SecureRandom::new, 64, 2, 1)) {
+            ULIDFactory ulidFactory = ULIDFactory.monotonicFactory(System::currentTimeMillis, source);
+            System.out.println(ulidFactory.ulid());
+            Set<ULID> ulids = new HashSet<>();
+            ulidFactory = ULIDFactory.factory(System::currentTimeMillis, source);
+            for (int i = 0; i < 10000; i++) {
+                Assert.assertTrue(ulids.add(ulidFactory.ulid()));
+            }
+        }
+    }
+
+    @Test
+    public void tesCreateULIDStream() {
+        ULIDFactory ulidFactory = ULIDFactory.monotonicFactory();
+        List<ULID> ulids = ulidFactory.stream(100000).parallel().collect(Collectors.toList());
+        Assert.assertEquals(100000, ulids.size());
+        for (int i = 1; i < ulids.size(); i++) {
+            Assert.assertTrue(ulids.get(i - 1).compareTo(ulids.get(i)) < 0);
+        }
+        Assert.assertTrue(ulids.get(ulids.size() - 1).compareTo(ulidFactory.ulid()) < 0);
+        Assert.assertEquals(10000, ULIDFactory.factory().stream(10000).parallel().distinct().count());
+        long from = System.currentTimeMillis();
+        ulids = ULIDFactory.factory().stream(from, from + 100, 10).parallel().collect(Collectors.toList());
+        Assert.assertEquals(1000, ulids.size());
+        for (int i = 0; i < ulids.size(); i++) {
+            Assert.assertEquals(from + i / 10, ulids.get(i).getTimestamp());
+            if (i > 0) {
+                Assert.assertTrue(ulids.get(i - 1).compareTo(ulids.get(i)) < 0);
+            }
+        }
+        for (ULIDFactory monotonicFactory : Arrays.asList(ulidFactory, ULIDFactory.stripedMonotonicFactory())) {
+            try {
+                monotonicFactory.stream(from, from + 100, 10);
+                Assert.fail();
+            } catch (UnsupportedOperationException expected) {
+                // monotonic factories can not reserve a timestamp range
+            }
+        }
+        long[] count = new long[1];
+        ulidFactory.spliterator(1000).forEachRemaining((ULIDConsumer) (msb, lsb) -> count[0]++);
+        Assert.assertEquals(1000, count[0]);
+    }
+
+    @Test
+    public void tesCreateULIDWithMetrics() throws Exception {
+        ULIDFactoryMetrics metrics = new ULIDFactoryMetrics();
+        long[] clock = {1000L};
+        ULIDFactory ulidFactory = ULIDFactory.monotonicFactory(() -> clock[0], ULIDFactory.DEFAULT_RANDOMNESS_SOURCE, metrics);
+        ulidFactory.ulid();
+        ulidFactory.ulid();
+        ulidFactory.ulids(10);
+        clock[0] = 990L;
+        ulidFactory.ulid();
+        ULIDFactoryMetrics.Snapshot snapshot = metrics.snapshot();
+        System.out.println(snapshot);
+        Assert.assertEquals(13, snapshot.getGenerated());
+        Assert.assertEquals(1, snapshot.getFreshRandomness());
+        Assert.assertEquals(12, snapshot.getIncrements());
+        Assert.assertEquals(1, snapshot.getClockRegressions());
+        Assert.assertEquals(10, snapshot.getMaxClockRegressionMillis());
+        // a ULID of a later millisecond installed first is not a clock regression
+        clock[0] = 1000L;
+        ulidFactory.ulid(2000L);
+        ulidFactory.ulid();
+        Assert.assertEquals(1, metrics.getClockRegressions());
+        ObjectName objectName = metrics.register("example");
+        try {
+            Assert.assertEquals(15L, ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "Generated"));
+        } finally {
+            metrics.unregister();
+        }
+    }
+
+    @Test
+    public void tesCreateShardedMonotonicULID() {
+        ULIDFactory ulidFactory = ULIDFactory.shardedMonotonicFactory(8, 200);
+        ULID last = ulidFactory.ulid();
+        System.out.println(last);
+        Assert.assertEquals(200, last.getShard(8));
+        for (int i = 0; i < 10000; i++) {
+            ULID next = ulidFactory.ulid(last.getTimestamp());
+            Assert.assertTrue(last.compareTo(next) < 0);
+            Assert.assertEquals(200, next.getShard(8));
+            last = next;
+        }
+        for (ULID ulid : ulidFactory.ulids(1000)) {
+            Assert.assertTrue(last.compareTo(ulid) < 0);
+            Assert.assertEquals(200, ulid.getShard(8));
+            last = ulid;
+        }
+        // exhaust the randomness, the timestamp is advanced instead of the shard
+        RandomnessSource maxRandomness = () -> -1L;
+        ulidFactory = ULIDFactory.shardedMonotonicFactory(() -> 1000L, maxRandomness, 16, 7);
+        ULID first = ulidFactory.ulid();
+        ULID second = ulidFactory.ulid();
+        Assert.assertEquals(1000L, first.getTimestamp());
+        Assert.assertEquals(1001L, second.getTimestamp());
+        Assert.assertEquals(7, first.getShard(16));
+        Assert.assertEquals(7, second.getShard(16));
+        Assert.assertEquals(7, ulidFactory.ulids(10).get(9).getShard(16));
+    }
+
+    @Test
+    public void tesULIDCodec() {
+        ULID ulid = ULIDFactory.factory().ulid();
+        String lowercase = ULIDCodec.CROCKFORD_LOWERCASE.encode(ulid);
+        System.out.println(lowercase);
+        Assert.assertEquals(ulid.toString().toLowerCase(), lowercase);
+        Assert.assertEquals(ulid, ULID.fromString(lowercase));
+        Assert.assertEquals(ulid, ULIDCodec.CROCKFORD.decode(lowercase));
+        ULIDCodec custom = ULIDCodec.of("abcdefghijklmnopqrstuvwxyz234567");
+        String encoded = custom.encode(ulid);
+        System.out.println(encoded);
+        Assert.assertEquals(ulid, custom.decode(encoded));
+        Assert.assertEquals(ulid, custom.decode(encoded.toUpperCase()));
+        try {
+            ULID.fromString("8ZZZZZZZZZZZZZZZZZZZZZZZZZ");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("Time overflow", e.getMessage());
+        }
+        try {
+            ULID.fromString("01M53EQZR04AHM133CS9VVMFDU");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("Invalid ULID canonical string for char 'U'", e.getMessage());
+        }
+        try {
+            ULIDCodec.of("0123456789ABCDEFGHJKMNPQRSTVWXYY");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void tesSerializeULID() throws Exception {
+        ULID ulid = ULIDFactory.factory().ulid();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(ulid);
+        }
+        System.out.println("serialized: " + bytes.size() + " bytes");
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Assert.assertEquals(ulid, in.readObject());
+        }
+        ULIDArray array = new ULIDArray();
+        array.addAll(ULIDFactory.monotonicFactory(), 1234);
+        bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            ulid.writeTo(out);
+            array.writeTo(out);
+        }
+        Assert.assertEquals(ULID.BINARY_BYTE_LEN + 4 + 1234 * ULID.BINARY_BYTE_LEN, bytes.size());
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Assert.assertEquals(ulid, ULID.readFrom(in));
+            ULIDArray actual = ULIDArray.readFrom(in);
+            Assert.assertEquals(array.size(), actual.size());
+            for (int i = 0; i < array.size(); i++) {
+                Assert.assertEquals(array.get(i), actual.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void tesCreatePrefetchingULID() throws Exception {
+        AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        ULIDFactory delegate = ULIDFactory.monotonicFactory(clock::get, ULIDFactory.DEFAULT_RANDOMNESS_SOURCE);
+        try (PrefetchingULIDFactory ulidFactory = new PrefetchingULIDFactory(delegate, clock::get, 64, 16, 64, 10,
+                TimeUnit.MILLISECONDS)) {
+            Set<ULID> ulids = new HashSet<>();
+            ulids.add(awaitPoll(ulidFactory));
+            for (int i = 0; i < 1000; i++) {
+                ulids.add(ulidFactory.ulid());
+            }
+            Assert.assertEquals(1001, ulids.size());
+            // the buffered ULIDs become stale, they are never handed out
+            clock.addAndGet(20);
+            ULID ulid = ulidFactory.ulid();
+            System.out.println(ulid);
+            Assert.assertEquals(clock.get(), ulid.getTimestamp());
+            Assert.assertEquals(clock.get(), awaitPoll(ulidFactory).getTimestamp());
+            System.out.println("fallbacks: " + ulidFactory.getFallbacks() + ", discarded: " + ulidFactory.getDiscarded());
+        }
+    }
+
+    @Test
+    public void tesCreatePersistentMonotonicULID() throws Exception {
+        Path path = Files.createTempFile("ulid4j", ".checkpoint");
+        Path crashed = Files.createTempFile("ulid4j", ".checkpoint");
+        AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        ULID last;
+        long lease;
+        try (PersistentMonotonicULIDFactory ulidFactory = PersistentMonotonicULIDFactory.open(path, clock::get,
+                ULIDFactory.DEFAULT_RANDOMNESS_SOURCE, 100, TimeUnit.MILLISECONDS)) {
+            List<ULID> ulids = ulidFactory.ulids(1000);
+            last = ulidFactory.ulid();
+            Assert.assertTrue(ulids.get(999).compareTo(last) < 0);
+            lease = ulidFactory.getLease();
+            Assert.assertTrue(lease >= last.getTimestamp());
+            // the file as left behind by a crash, it only holds the lease
+            Files.copy(path, crashed, StandardCopyOption.REPLACE_EXISTING);
+        }
+        // the clock steps back, the restarted factory still resumes after the last ULID
+        clock.addAndGet(-10000);
+        try (PersistentMonotonicULIDFactory ulidFactory = PersistentMonotonicULIDFactory.open(path, clock::get,
+                ULIDFactory.DEFAULT_RANDOMNESS_SOURCE, 100, TimeUnit.MILLISECONDS)) {
+            ULID ulid = ulidFactory.ulid();
+            System.out.println(last + " -> " + ulid);
+            Assert.assertTrue(last.compareTo(ulid) < 0);
+        }
+        try (PersistentMonotonicULIDFactory ulidFactory = PersistentMonotonicULIDFactory.open(crashed, clock::get,
+                ULIDFactory.DEFAULT_RANDOMNESS_SOURCE, 100, TimeUnit.MILLISECONDS)) {
+            Assert.assertTrue(ulidFactory.ulid().getTimestamp() > lease);
+        } finally {
+            Files.delete(path);
+            Files.delete(crashed);
+        }
+    }
+
+    @Test
+    public void tesCreateKeyedULID() {
+        AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        KeyedULIDFactory ulidFactory = new KeyedULIDFactory(clock::get, ULIDFactory.DEFAULT_RANDOMNESS_SOURCE, 4,
+                256, 1000, TimeUnit.MILLISECONDS);
+        ULID[] last = new ULID[1024];
+        Set<ULID> ulids = new HashSet<>();
+        for (int round = 0; round < 4; round++) {
+            // four times more keys than the max count of keys, so keys are evicted and come back
+            for (int key = 0; key < last.length; key++) {
+                ULID ulid = ulidFactory.ulid(key);
+                if (last[key] != null) {
+                    Assert.assertTrue(last[key].compareTo(ulid) < 0);
+                }
+                // new keys after eviction get fresh randomness, so ULIDs never repeat across keys
+                Assert.assertTrue(ulids.add(ulid));
+                last[key] = ulid;
+            }
+            Assert.assertTrue(ulidFactory.size() <= 256);
+        }
+        Assert.assertTrue(ulidFactory.ulid("tenant-a").compareTo(ulidFactory.ulid("tenant-a")) < 0);
+        Assert.assertEquals(KeyedULIDFactory.keyOf(42), 42L);
+        // keys coming back after eviction within the same millisecond moved a few milliseconds ahead, wait until
+        // all of them are idle
+        clock.addAndGet(2000);
+        int size = ulidFactory.size();
+        Assert.assertEquals(size, ulidFactory.evictIdle());
+        Assert.assertEquals(0, ulidFactory.size());
+    }
+
+    @Test
+    public void tesConvertUUIDv7() {
+        ULID ulid = ULIDFactory.factory().ulid();
+        for (UUIDv7Converter.LossPolicy policy : new UUIDv7Converter.LossPolicy[]{UUIDv7Converter.LossPolicy.TRUNCATE,
+                UUIDv7Converter.LossPolicy.OVERWRITE}) {
+            UUID uuid = UUIDv7Converter.toUUIDv7(ulid, policy);
+            System.out.println(policy + ": " + ulid + " -> " + uuid);
+            Assert.assertEquals(7, uuid.version());
+            Assert.assertEquals(2, uuid.variant());
+            Assert.assertEquals(ulid.getTimestamp(), uuid.getMostSignificantBits() >>> 16);
+            ULID back = UUIDv7Converter.toULID(uuid, policy);
+            Assert.assertEquals(uuid, UUIDv7Converter.toUUIDv7(back, policy));
+        }
+        try {
+            UUIDv7Converter.toUUIDv7(ULID.fromUUID(new UUID(0L, 0L)), UUIDv7Converter.LossPolicy.STRICT);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+        }
+        // truncate keeps the order of monotonic ULIDs, bulk conversion works in place
+        long[] msbs = new long[1000];
+        long[] lsbs = new long[1000];
+        ULIDFactory.monotonicFactory().fill(msbs, lsbs, 0, 1000);
+        long[] expectedMsbs = msbs.clone();
+        long[] expectedLsbs = lsbs.clone();
+        UUIDv7Converter.toUUIDv7(msbs, lsbs, 0, 1000, UUIDv7Converter.LossPolicy.TRUNCATE);
+        for (int i = 1; i < 1000; i++) {
+            Assert.assertTrue(UUIDv7Converter.isUUIDv7(msbs[i], lsbs[i]));
+            Assert.assertTrue(ULID.fromUUID(new UUID(msbs[i - 1], lsbs[i - 1]))
+                    .compareTo(ULID.fromUUID(new UUID(msbs[i], lsbs[i]))) < 0);
+        }
+        UUIDv7Converter.toULID(msbs, lsbs, 0, 1000, UUIDv7Converter.LossPolicy.TRUNCATE);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(expectedMsbs[i] & ~0xfc00L, msbs[i]);
+            Assert.assertEquals(expectedLsbs[i], lsbs[i]);
+        }
+    }
+
+    @Test
+    public void tesCreateUUIDv7MonotonicULID() {
+        ULIDFactory ulidFactory = ULIDFactory.uuidV7MonotonicFactory();
+        List<ULID> ulids = ulidFactory.ulids(1000);
+        ULID previous = null;
+        for (ULID ulid : ulids) {
+            UUID uuid = ulid.toUUID();
+            Assert.assertEquals(7, uuid.version());
+            Assert.assertEquals(2, uuid.variant());
+            if (previous != null) {
+                Assert.assertTrue(previous.compareTo(ulid) < 0);
+            }
+            previous = ulid;
+        }
+        ULID ulid = ulidFactory.ulid();
+        Assert.assertTrue(previous.compareTo(ulid) < 0);
+        Assert.assertTrue(UUIDv7Converter.isUUIDv7(ulid));
+        System.out.println(ulid + " " + ulid.toUUID());
+    }
+
+    @Test
+    public void tesCompareEncodedULID() {
+        ULIDFactory ulidFactory = ULIDFactory.factory();
+        List<ULID> ulids = new ArrayList<>(ulidFactory.ulids(100));
+        ulids.addAll(ULIDFactory.monotonicFactory().ulids(100));
+        for (int i = 1; i < ulids.size(); i++) {
+            ULID a = ulids.get(i - 1);
+            ULID b = ulids.get(i);
+            int expected = Integer.signum(a.compareTo(b));
+            Assert.assertEquals(expected, Integer.signum(ULIDEncodings.compareEncoded(a.toString(), b.toString())));
+            Assert.assertEquals(expected, Integer.signum(ULIDEncodings.compareEncoded(a.toString().toLowerCase(),
+                    b.toString())));
+            Assert.assertEquals(expected, Integer.signum(ULIDEncodings.compareEncoded(
+                    a.toString().getBytes(StandardCharsets.US_ASCII), 0, b.toString().getBytes(StandardCharsets.US_ASCII), 0)));
+            Assert.assertEquals(expected, Integer.signum(ULIDEncodings.compareBinary(a.toBytes(), 0, b.toBytes(), 0)));
+            Assert.assertEquals(expected, Integer.signum(ULIDEncodings.compareBinary(ByteBuffer.wrap(a.toBytes()), 0,
+                    ByteBuffer.wrap(b.toBytes()), 0)));
+        }
+        ULID ulid = ulids.get(0);
+        long timestamp = ulid.getTimestamp();
+        Assert.assertEquals(timestamp, ULIDEncodings.timestampOf(ulid.toString()));
+        Assert.assertEquals(timestamp, ULIDEncodings.timestampOfBinary(ulid.toBytes(), 0));
+        Assert.assertTrue(ULIDEncodings.isInTimeRange(ulid.toString(), timestamp, timestamp));
+        Assert.assertFalse(ULIDEncodings.isInTimeRange(ulid.toString(), timestamp + 1, timestamp + 10));
+        Assert.assertTrue(ULIDEncodings.isInTimeRangeBinary(ulid.toBytes(), 0, timestamp - 10, timestamp));
+        // the bounds of a millisecond as canonical strings
+        String min = ULID.min(timestamp).toString();
+        String max = ULID.max(timestamp).toString();
+        System.out.println(min + " <= " + ulid + " <= " + max);
+        Assert.assertTrue(ULIDEncodings.compareEncoded(min, ulid.toString()) <= 0);
+        Assert.assertTrue(ULIDEncodings.compareEncoded(ulid.toString(), max) <= 0);
+        Assert.assertTrue(ULIDEncodings.compareEncoded(max, ULID.min(timestamp + 1).toString()) < 0);
+        try {
+            ULIDEncodings.timestampOf("0!ZZZZZZZZZZZZZZZZZZZZZZZZ");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    private static ULID awaitPoll(PrefetchingULIDFactory ulidFactory) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        ULID ulid;
+        while ((ulid = ulidFactory.poll()) == null) {
+            Assert.assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(1);
+        }
+        return ulid;
+    }
 }